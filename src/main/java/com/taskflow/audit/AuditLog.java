@@ -0,0 +1,474 @@
+package com.taskflow.audit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only log of {@link AuditRecord}s stored in numbered segment files. The active
+ * segment is preallocated and memory-mapped, so an append is a copy into the page cache.
+ * When it is full it is truncated to its used size and a new one is started.
+ *
+ * <p>Each record is framed as {@code [length][crc32][payload]}. A zero length marks the end
+ * of a segment. On open, the last segment is scanned up to the first frame whose checksum
+ * does not match, which drops a record torn by a crash. An in-memory index maps each task
+ * to the addresses of its records, as segment number and position, so a task's history is
+ * read without scanning. The index is rebuilt from the segments on open.
+ *
+ * <p>{@link #compact} rewrites sealed segments without the records a predicate rejects.
+ */
+public class AuditLog implements Closeable {
+
+    static final String SUFFIX = ".seg";
+
+    private static final Logger log = LoggerFactory.getLogger(AuditLog.class);
+    private static final int FRAME_HEADER = 8;
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final FsyncPolicy fsyncPolicy;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TreeMap<Integer, Segment> segments = new TreeMap<>();
+    private final Map<Long, Addresses> index = new HashMap<>();
+
+    private Segment active;
+
+    public AuditLog(Path directory, int segmentBytes, FsyncPolicy fsyncPolicy) throws IOException {
+        if (segmentBytes <= FRAME_HEADER) {
+            throw new IllegalArgumentException("Audit segment size is too small: " + segmentBytes);
+        }
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.fsyncPolicy = fsyncPolicy;
+        Files.createDirectories(directory);
+
+        for (Path file : segmentFiles(directory)) {
+            Segment segment = Segment.openSealed(idOf(file), file);
+            segments.put(segment.id, segment);
+        }
+        if (segments.isEmpty()) {
+            active = Segment.create(1, segmentPath(1), segmentBytes);
+            segments.put(active.id, active);
+        } else {
+            Segment last = segments.lastEntry().getValue();
+            last.close();
+            active = Segment.reopenActive(last.id, last.path, segmentBytes);
+            segments.put(active.id, active);
+        }
+        for (Segment segment : segments.values()) {
+            segment.scan((position, record) -> index(record.taskId(), address(segment.id, position)));
+        }
+    }
+
+    public void append(AuditRecord record) {
+        byte[] payload = record.encode();
+        int frame = FRAME_HEADER + payload.length;
+        if (frame > segmentBytes) {
+            throw new IllegalArgumentException("Audit record of " + frame + " bytes exceeds the segment size");
+        }
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+
+        lock.writeLock().lock();
+        try {
+            if (active.size + frame > active.capacity) {
+                roll();
+            }
+            int position = active.size;
+            active.buffer.put(position + FRAME_HEADER, payload);
+            active.buffer.putInt(position + 4, (int) crc.getValue());
+            active.buffer.putInt(position, payload.length);
+            active.size += frame;
+            if (fsyncPolicy == FsyncPolicy.ALWAYS) {
+                ((MappedByteBuffer) active.buffer).force(position, frame);
+            }
+            index(record.taskId(), address(active.id, position));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<AuditRecord> history(long taskId) {
+        lock.readLock().lock();
+        try {
+            Addresses addresses = index.get(taskId);
+            if (addresses == null) {
+                return List.of();
+            }
+            List<AuditRecord> records = new ArrayList<>(addresses.size);
+            for (int i = 0; i < addresses.size; i++) {
+                long address = addresses.values[i];
+                records.add(segments.get(segmentOf(address)).read(positionOf(address)));
+            }
+            return records;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Hands every record to {@code consumer} in append order.
+     */
+    public void replay(Consumer<AuditRecord> consumer) {
+        lock.readLock().lock();
+        try {
+            for (Segment segment : segments.values()) {
+                segment.scan((position, record) -> consumer.accept(record));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of the tasks whose latest record is a deletion older than {@code cutoff}.
+     */
+    public Set<Long> tasksDeletedBefore(Instant cutoff) {
+        lock.readLock().lock();
+        try {
+            Set<Long> deleted = new HashSet<>();
+            index.forEach((taskId, addresses) -> {
+                long last = addresses.values[addresses.size - 1];
+                AuditRecord record = segments.get(segmentOf(last)).read(positionOf(last));
+                if (record.type() == AuditRecord.ChangeType.DELETED && record.timestamp().isBefore(cutoff)) {
+                    deleted.add(taskId);
+                }
+            });
+            return deleted;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rewrites every sealed segment without the records {@code keep} rejects. Segments are
+     * rewritten into a temporary file that atomically replaces the original, and the index
+     * is patched under the write lock, so appends only wait for the swap itself.
+     *
+     * @return the number of records removed
+     */
+    public int compact(Predicate<AuditRecord> keep) throws IOException {
+        List<Segment> sealed;
+        lock.readLock().lock();
+        try {
+            sealed = new ArrayList<>(segments.headMap(active.id).values());
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        int removed = 0;
+        for (Segment segment : sealed) {
+            Set<Long> tasks = new HashSet<>();
+            List<AuditRecord> survivors = new ArrayList<>();
+            int[] total = new int[1];
+            segment.scan((position, record) -> {
+                total[0]++;
+                tasks.add(record.taskId());
+                if (keep.test(record)) {
+                    survivors.add(record);
+                }
+            });
+            if (survivors.size() == total[0]) {
+                continue;
+            }
+            removed += total[0] - survivors.size();
+
+            Path compacted = segment.path.resolveSibling(segment.path.getFileName() + ".compacting");
+            try (FileChannel channel = FileChannel.open(compacted, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                for (AuditRecord record : survivors) {
+                    channel.write(frame(record.encode()));
+                }
+                channel.force(true);
+            }
+
+            lock.writeLock().lock();
+            try {
+                segment.close();
+                Segment replacement = null;
+                if (survivors.isEmpty()) {
+                    Files.delete(compacted);
+                    Files.delete(segment.path);
+                    segments.remove(segment.id);
+                } else {
+                    Files.move(compacted, segment.path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                    replacement = Segment.openSealed(segment.id, segment.path);
+                    segments.put(segment.id, replacement);
+                }
+                reindex(segment.id, tasks, replacement);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        if (removed > 0) {
+            log.info("Audit compaction removed {} records", removed);
+        }
+        return removed;
+    }
+
+    /**
+     * Forces the active segment to disk; used by the {@link FsyncPolicy#INTERVAL} policy.
+     */
+    public void flush() {
+        lock.writeLock().lock();
+        try {
+            ((MappedByteBuffer) active.buffer).force();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int segmentCount() {
+        lock.readLock().lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            if (fsyncPolicy != FsyncPolicy.NEVER) {
+                ((MappedByteBuffer) active.buffer).force();
+            }
+            for (Segment segment : segments.values()) {
+                segment.close();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    static List<Path> segmentFiles(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(SUFFIX))
+                    .sorted(Comparator.comparingInt(AuditLog::idOf))
+                    .toList();
+        }
+    }
+
+    private void roll() {
+        try {
+            active.seal();
+            segments.put(active.id, Segment.openSealed(active.id, active.path));
+            active = Segment.create(active.id + 1, segmentPath(active.id + 1), segmentBytes);
+            segments.put(active.id, active);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not roll the audit log segment", ex);
+        }
+    }
+
+    private void reindex(int segmentId, Set<Long> tasks, Segment replacement) {
+        for (Long taskId : tasks) {
+            Addresses addresses = index.get(taskId);
+            if (addresses != null) {
+                addresses.removeSegment(segmentId);
+            }
+        }
+        if (replacement != null) {
+            replacement.scan((position, record) ->
+                    index.computeIfAbsent(record.taskId(), id -> new Addresses()).insert(address(segmentId, position)));
+        }
+        for (Long taskId : tasks) {
+            Addresses addresses = index.get(taskId);
+            if (addresses != null && addresses.size == 0) {
+                index.remove(taskId);
+            }
+        }
+    }
+
+    private void index(long taskId, long address) {
+        index.computeIfAbsent(taskId, id -> new Addresses()).add(address);
+    }
+
+    private Path segmentPath(int id) {
+        return directory.resolve(String.format("%010d%s", id, SUFFIX));
+    }
+
+    private static int idOf(Path file) {
+        String name = file.getFileName().toString();
+        return Integer.parseInt(name.substring(0, name.length() - SUFFIX.length()));
+    }
+
+    private static ByteBuffer frame(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        ByteBuffer frame = ByteBuffer.allocate(FRAME_HEADER + payload.length);
+        frame.putInt(payload.length).putInt((int) crc.getValue()).put(payload).flip();
+        return frame;
+    }
+
+    private static long address(int segment, int position) {
+        return ((long) segment << 32) | (position & 0xFFFFFFFFL);
+    }
+
+    private static int segmentOf(long address) {
+        return (int) (address >>> 32);
+    }
+
+    private static int positionOf(long address) {
+        return (int) address;
+    }
+
+    @FunctionalInterface
+    private interface FrameVisitor {
+        void visit(int position, AuditRecord record);
+    }
+
+    /**
+     * Record addresses of one task in append order, as a growable primitive array.
+     */
+    private static final class Addresses {
+
+        long[] values = new long[4];
+        int size;
+
+        void add(long address) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = address;
+        }
+
+        void insert(long address) {
+            add(address);
+            for (int i = size - 1; i > 0 && values[i - 1] > values[i]; i--) {
+                long swap = values[i];
+                values[i] = values[i - 1];
+                values[i - 1] = swap;
+            }
+        }
+
+        void removeSegment(int segmentId) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                if (segmentOf(values[i]) != segmentId) {
+                    values[kept++] = values[i];
+                }
+            }
+            size = kept;
+        }
+    }
+
+    private static final class Segment {
+
+        final int id;
+        final Path path;
+        final FileChannel channel;
+        final ByteBuffer buffer;
+        final int capacity;
+        int size;
+
+        private Segment(int id, Path path, FileChannel channel, ByteBuffer buffer, int capacity, int size) {
+            this.id = id;
+            this.path = path;
+            this.channel = channel;
+            this.buffer = buffer;
+            this.capacity = capacity;
+            this.size = size;
+        }
+
+        static Segment create(int id, Path path, int capacity) throws IOException {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            return new Segment(id, path, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity), capacity, 0);
+        }
+
+        static Segment openSealed(int id, Path path) throws IOException {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+            int length = (int) channel.size();
+            Segment segment = new Segment(id, path, channel, channel.map(FileChannel.MapMode.READ_ONLY, 0, length),
+                    length, length);
+            segment.size = segment.validLength();
+            return segment;
+        }
+
+        static Segment reopenActive(int id, Path path, int capacity) throws IOException {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            int length = (int) Math.max(capacity, channel.size());
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+            Segment segment = new Segment(id, path, channel, buffer, length, 0);
+            segment.size = segment.validLength();
+            // wipe a torn tail so that later appends can never be followed by stale bytes
+            for (int i = segment.size; i < length; i++) {
+                if (buffer.get(i) != 0) {
+                    buffer.put(i, (byte) 0);
+                }
+            }
+            return segment;
+        }
+
+        AuditRecord read(int position) {
+            byte[] payload = new byte[buffer.getInt(position)];
+            buffer.get(position + FRAME_HEADER, payload);
+            return AuditRecord.decode(payload);
+        }
+
+        void scan(FrameVisitor visitor) {
+            int position = 0;
+            while (position < size) {
+                visitor.visit(position, read(position));
+                position += FRAME_HEADER + buffer.getInt(position);
+            }
+        }
+
+        void seal() throws IOException {
+            ((MappedByteBuffer) buffer).force();
+            try {
+                channel.truncate(size);
+            } catch (IOException ex) {
+                // some platforms refuse to truncate a mapped file; the zero frame still ends it
+                log.debug("Could not truncate audit segment {}", path, ex);
+            }
+            channel.close();
+        }
+
+        void close() throws IOException {
+            if (channel.isOpen()) {
+                channel.close();
+            }
+        }
+
+        /**
+         * Length of the prefix made of complete frames with matching checksums.
+         */
+        private int validLength() {
+            int position = 0;
+            while (position + FRAME_HEADER <= capacity) {
+                int length = buffer.getInt(position);
+                if (length <= 0 || position + FRAME_HEADER + length > capacity) {
+                    break;
+                }
+                byte[] payload = new byte[length];
+                buffer.get(position + FRAME_HEADER, payload);
+                CRC32 crc = new CRC32();
+                crc.update(payload);
+                if ((int) crc.getValue() != buffer.getInt(position + 4)) {
+                    break;
+                }
+                position += FRAME_HEADER + length;
+            }
+            return position;
+        }
+    }
+}
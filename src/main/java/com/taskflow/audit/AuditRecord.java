@@ -0,0 +1,74 @@
+package com.taskflow.audit;
+
+import java.io.*;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One change of one task. Encoded as a compact binary payload: task id, timestamp, change
+ * type and actor, followed by the changed fields with their old and new values.
+ */
+public record AuditRecord(
+        long taskId,
+        Instant timestamp,
+        ChangeType type,
+        String actor,
+        List<FieldChange> changes) {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public record FieldChange(String field, String oldValue, String newValue) {
+    }
+
+    byte[] encode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeLong(taskId);
+            out.writeLong(timestamp.toEpochMilli());
+            out.writeByte(type.ordinal());
+            writeNullable(out, actor);
+            out.writeShort(changes.size());
+            for (FieldChange change : changes) {
+                out.writeUTF(change.field());
+                writeNullable(out, change.oldValue());
+                writeNullable(out, change.newValue());
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    static AuditRecord decode(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            long taskId = in.readLong();
+            Instant timestamp = Instant.ofEpochMilli(in.readLong());
+            ChangeType type = ChangeType.values()[in.readByte()];
+            String actor = readNullable(in);
+            int count = in.readUnsignedShort();
+            List<FieldChange> changes = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                changes.add(new FieldChange(in.readUTF(), readNullable(in), readNullable(in)));
+            }
+            return new AuditRecord(taskId, timestamp, type, actor, changes);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
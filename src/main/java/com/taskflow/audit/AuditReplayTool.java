@@ -0,0 +1,71 @@
+package com.taskflow.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Prints the records of an audit log directory as one JSON object per line, optionally
+ * only those of one task. Meant to be run against a copy or a stopped instance:
+ * <pre>java -cp taskflow-api.jar -Dloader.main=com.taskflow.audit.AuditReplayTool \
+ *     org.springframework.boot.loader.launch.PropertiesLauncher &lt;directory&gt; [taskId]</pre>
+ */
+public final class AuditReplayTool {
+
+    private AuditReplayTool() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1 || args.length > 2) {
+            System.err.println("usage: AuditReplayTool <directory> [taskId]");
+            System.exit(2);
+        }
+        Path directory = Path.of(args[0]);
+        if (!Files.isDirectory(directory)) {
+            System.err.println("not a directory: " + directory);
+            System.exit(2);
+        }
+        Long taskId = args.length == 2 ? Long.valueOf(args[1]) : null;
+        replay(directory, taskId, System.out);
+    }
+
+    /**
+     * @return the number of records printed
+     */
+    static long replay(Path directory, Long taskId, PrintStream out) throws IOException {
+        ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if (AuditLog.segmentFiles(directory).isEmpty()) {
+            return 0;
+        }
+        long[] printed = new long[1];
+        try (AuditLog log = new AuditLog(directory, segmentSize(directory), FsyncPolicy.NEVER)) {
+            log.replay(record -> {
+                if (taskId == null || record.taskId() == taskId) {
+                    try {
+                        out.println(mapper.writeValueAsString(record));
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                    printed[0]++;
+                }
+            });
+        }
+        return printed[0];
+    }
+
+    // reopening maps the active segment at least at its current length, never shrinking it
+    private static int segmentSize(Path directory) throws IOException {
+        long largest = 1024;
+        for (Path file : AuditLog.segmentFiles(directory)) {
+            largest = Math.max(largest, Files.size(file));
+        }
+        return Math.toIntExact(largest);
+    }
+}
@@ -0,0 +1,13 @@
+package com.taskflow.audit;
+
+/**
+ * When appended audit records are forced from the page cache to disk.
+ */
+public enum FsyncPolicy {
+    /** after every record; nothing acknowledged is lost on a crash */
+    ALWAYS,
+    /** every {@code taskflow.audit.fsync-interval}; a crash loses at most that window */
+    INTERVAL,
+    /** left to the operating system */
+    NEVER
+}
@@ -0,0 +1,20 @@
+package com.taskflow.config;
+
+import com.taskflow.audit.AuditLog;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+
+@Configuration
+public class AuditConfig {
+
+    @Bean(destroyMethod = "close")
+    public AuditLog auditLog(AuditProperties properties) throws IOException {
+        if (properties.directory() == null) {
+            throw new IllegalStateException("taskflow.audit.directory must be set to a persistent directory");
+        }
+        return new AuditLog(properties.directory(), Math.toIntExact(properties.segmentSize().toBytes()),
+                properties.fsyncPolicy());
+    }
+}
@@ -0,0 +1,24 @@
+package com.taskflow.config;
+
+import com.taskflow.audit.FsyncPolicy;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Task audit log. {@code directory} has no default: the log must outlive the process, so a
+ * temporary directory is only configured by the dev and test profiles.
+ */
+@ConfigurationProperties("taskflow.audit")
+public record AuditProperties(
+        Path directory,
+        @DefaultValue("64MB") DataSize segmentSize,
+        @DefaultValue("INTERVAL") FsyncPolicy fsyncPolicy,
+        @DefaultValue("1s") Duration fsyncInterval,
+        @DefaultValue("30d") Duration deletedTaskRetention,
+        @DefaultValue("24h") Duration compactionInterval,
+        @DefaultValue("X-User-Id") String actorHeader) {
+}
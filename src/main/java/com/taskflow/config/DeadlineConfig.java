@@ -0,0 +1,30 @@
+package com.taskflow.config;
+
+import com.taskflow.deadline.DeadlineAspect;
+import com.taskflow.deadline.DeadlineFilter;
+import com.taskflow.deadline.DeadlineMetrics;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class DeadlineConfig {
+
+    @Bean
+    public FilterRegistrationBean<DeadlineFilter> deadlineFilter(DeadlineProperties properties) {
+        FilterRegistrationBean<DeadlineFilter> registration = new FilterRegistrationBean<>(new DeadlineFilter(properties));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+
+    @Bean
+    public DeadlineAspect deadlineAspect() {
+        return new DeadlineAspect();
+    }
+
+    @Bean
+    public DeadlineMetrics deadlineMetrics() {
+        return new DeadlineMetrics();
+    }
+}
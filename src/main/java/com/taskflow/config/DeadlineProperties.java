@@ -0,0 +1,26 @@
+package com.taskflow.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * Request deadlines. Clients send their remaining budget in milliseconds in
+ * {@code headerName}; without it the first matching endpoint default applies, then
+ * {@code defaultTimeoutMs}. Client budgets are capped at {@code maxTimeoutMs}.
+ */
+@ConfigurationProperties("taskflow.deadline")
+public record DeadlineProperties(
+        @DefaultValue("X-Request-Timeout-Ms") String headerName,
+        @DefaultValue("30000") long defaultTimeoutMs,
+        @DefaultValue("60000") long maxTimeoutMs,
+        @DefaultValue List<Endpoint> endpoints) {
+
+    /**
+     * @param method HTTP method, or null for any
+     * @param pattern Ant-style path pattern, e.g. {@code /api/tasks/**}
+     */
+    public record Endpoint(String method, String pattern, long timeoutMs) {
+    }
+}
@@ -0,0 +1,15 @@
+package com.taskflow.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties("taskflow.due")
+public record DueDateProperties(
+        @DefaultValue("1s") Duration tick,
+        @DefaultValue("64") int wheelSize,
+        @DefaultValue("4") int levels,
+        @DefaultValue("7d") Duration horizon,
+        @DefaultValue("1h") Duration refillInterval) {
+}
@@ -0,0 +1,12 @@
+package com.taskflow.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties("taskflow.inbox")
+public record InboxProperties(
+        @DefaultValue("10000") int maxCachedUsers,
+        @DefaultValue("30s") Duration maxAge) {
+}
@@ -0,0 +1,53 @@
+package com.taskflow.config;
+
+import com.taskflow.monitoring.QueryInspectingDataSource;
+import com.taskflow.monitoring.QueryMonitor;
+import com.taskflow.monitoring.QueryScopeFilter;
+import com.taskflow.monitoring.ServiceQueryScopeAspect;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class QueryMonitoringConfig {
+
+    // Static and bound from the Environment directly: the post-processor below needs it
+    // before regular beans such as configuration properties exist.
+    @Bean
+    public static QueryMonitor queryMonitor(Environment environment) {
+        return new QueryMonitor(Binder.get(environment)
+                .bindOrCreate("taskflow.query", QueryMonitoringProperties.class));
+    }
+
+    @Bean
+    public static BeanPostProcessor queryInspectingDataSourcePostProcessor(ObjectProvider<QueryMonitor> queryMonitor) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof QueryInspectingDataSource)) {
+                    return new QueryInspectingDataSource(dataSource, queryMonitor.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<QueryScopeFilter> queryScopeFilter(QueryMonitor queryMonitor) {
+        FilterRegistrationBean<QueryScopeFilter> registration = new FilterRegistrationBean<>(new QueryScopeFilter(queryMonitor));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    public ServiceQueryScopeAspect serviceQueryScopeAspect(QueryMonitor queryMonitor) {
+        return new ServiceQueryScopeAspect(queryMonitor);
+    }
+}
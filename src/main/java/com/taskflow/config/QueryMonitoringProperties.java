@@ -0,0 +1,10 @@
+package com.taskflow.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("taskflow.query")
+public record QueryMonitoringProperties(
+        @DefaultValue("500") long slowThresholdMs,
+        @DefaultValue("50") int maxStatementsPerScope) {
+}
@@ -0,0 +1,40 @@
+package com.taskflow.config;
+
+import com.taskflow.monitoring.QueryInspectingDataSource;
+import com.taskflow.monitoring.QueryMonitor;
+import com.taskflow.repository.UserRepository;
+import com.taskflow.repository.sharding.ShardedTaskRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+@Configuration
+@ConditionalOnProperty(name = "taskflow.sharding.enabled", havingValue = "true")
+public class ShardingConfig {
+
+    // Takes precedence over the Spring Data TaskRepository, so services are unaware of sharding
+    @Bean
+    @Primary
+    public ShardedTaskRepository shardedTaskRepository(ShardingProperties properties, UserRepository userRepository,
+                                                       QueryMonitor queryMonitor) {
+        List<DataSource> dataSources = properties.shards().stream()
+                .map(shard -> {
+                    HikariDataSource dataSource = DataSourceBuilder.create()
+                            .type(HikariDataSource.class)
+                            .url(shard.url())
+                            .username(shard.username())
+                            .password(shard.password())
+                            .build();
+                    dataSource.setMaximumPoolSize(properties.poolSize());
+                    return (DataSource) new QueryInspectingDataSource(dataSource, queryMonitor);
+                })
+                .toList();
+        return new ShardedTaskRepository(dataSources, userRepository, properties.poolSize());
+    }
+}
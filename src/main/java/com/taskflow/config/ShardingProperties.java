@@ -0,0 +1,21 @@
+package com.taskflow.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * Optional sharded persistence for tasks. When enabled, tasks are stored across the
+ * listed datasources instead of the primary one; users stay in the primary datasource.
+ * Each shard gets a connection pool of {@code poolSize} connections.
+ */
+@ConfigurationProperties("taskflow.sharding")
+public record ShardingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue List<Shard> shards,
+        @DefaultValue("10") int poolSize) {
+
+    public record Shard(String url, String username, String password) {
+    }
+}
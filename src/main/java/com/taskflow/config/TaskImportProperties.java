@@ -0,0 +1,25 @@
+package com.taskflow.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@ConfigurationProperties("taskflow.import")
+public record TaskImportProperties(
+        @DefaultValue("500") int chunkSize,
+        @DefaultValue("2") int maxConcurrentJobs,
+        @DefaultValue("1000") int maxReportedErrors,
+        @DefaultValue("10000") int assigneeCacheSize,
+        Path spoolDirectory,
+        @DefaultValue("24h") Duration finishedJobRetention,
+        @DefaultValue("1GB") DataSize maxFileSize) {
+
+    public Path resolvedSpoolDirectory() {
+        return spoolDirectory != null
+                ? spoolDirectory
+                : Path.of(System.getProperty("java.io.tmpdir"), "taskflow-import");
+    }
+}
@@ -0,0 +1,18 @@
+package com.taskflow.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.warmup.WarmupRunner;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class WarmupConfig {
+
+    @Bean
+    public WarmupRunner warmupRunner(WarmupProperties properties, ApplicationEventPublisher eventPublisher,
+                                     ApplicationAvailability availability, ObjectMapper objectMapper) {
+        return new WarmupRunner(properties, eventPublisher, availability, objectMapper);
+    }
+}
@@ -0,0 +1,36 @@
+package com.taskflow.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Warm-up run between startup and readiness. {@code mix} lists read-only paths with their
+ * relative weights; {@code {taskId}} and {@code {userId}} are replaced with sampled ids.
+ * The default mix only makes bounded reads, so warming up does not list whole tables.
+ */
+@ConfigurationProperties("taskflow.warmup")
+public record WarmupProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("60s") Duration maxDuration,
+        @DefaultValue("1s") Duration window,
+        @DefaultValue("3") int stableWindows,
+        @DefaultValue("0.1") double tolerance,
+        @DefaultValue("4") int concurrency,
+        @DefaultValue List<Call> mix) {
+
+    public static final List<Call> DEFAULT_MIX = List.of(
+            new Call("/api/tasks/user/{userId}/inbox", 1),
+            new Call("/api/tasks/{taskId}", 4),
+            new Call("/api/tasks/{taskId}?fields=id,title,status", 2),
+            new Call("/api/users/{userId}", 3));
+
+    public List<Call> effectiveMix() {
+        return mix.isEmpty() ? DEFAULT_MIX : mix;
+    }
+
+    public record Call(String path, @DefaultValue("1") int weight) {
+    }
+}
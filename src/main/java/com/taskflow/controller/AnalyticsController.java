@@ -0,0 +1,49 @@
+package com.taskflow.controller;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import com.taskflow.dto.CompletionTimeDistribution;
+import com.taskflow.dto.DailyTaskCounts;
+import com.taskflow.dto.UserTaskCounts;
+import com.taskflow.model.TaskStatus;
+import com.taskflow.service.analytics.TaskAnalyticsService;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/analytics")
+public class AnalyticsController {
+
+    private final TaskAnalyticsService analyticsService;
+
+    public AnalyticsController(TaskAnalyticsService analyticsService) {
+        this.analyticsService = analyticsService;
+    }
+
+    @GetMapping("/status")
+    public Map<TaskStatus, Long> countByStatus() {
+        return analyticsService.countByStatus();
+    }
+
+    @GetMapping("/daily")
+    public List<DailyTaskCounts> countPerDay(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(29);
+        return analyticsService.countPerDay(start, end);
+    }
+
+    @GetMapping("/users")
+    public List<UserTaskCounts> countPerUser() {
+        return analyticsService.countPerUser();
+    }
+
+    @GetMapping("/completion-time")
+    public CompletionTimeDistribution completionTimes() {
+        return analyticsService.completionTimes();
+    }
+}
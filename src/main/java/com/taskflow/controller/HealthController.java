@@ -0,0 +1,43 @@
+package com.taskflow.controller;
+
+import com.taskflow.warmup.WarmupRunner;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.LivenessState;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+// Probes for the orchestrator: readiness stays down until the JIT warm-up has finished.
+@RestController
+@RequestMapping("/api/health")
+public class HealthController {
+
+    private final ApplicationAvailability availability;
+    private final WarmupRunner warmupRunner;
+
+    public HealthController(ApplicationAvailability availability, WarmupRunner warmupRunner) {
+        this.availability = availability;
+        this.warmupRunner = warmupRunner;
+    }
+
+    @GetMapping("/liveness")
+    public ResponseEntity<Map<String, String>> liveness() {
+        return probe(availability.getLivenessState() == LivenessState.CORRECT);
+    }
+
+    @GetMapping("/readiness")
+    public ResponseEntity<Map<String, String>> readiness() {
+        return probe(warmupRunner.isComplete()
+                && availability.getReadinessState() == ReadinessState.ACCEPTING_TRAFFIC);
+    }
+
+    private static ResponseEntity<Map<String, String>> probe(boolean up) {
+        return ResponseEntity.status(up ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE)
+                .body(Map.of("status", up ? "UP" : "OUT_OF_SERVICE"));
+    }
+}
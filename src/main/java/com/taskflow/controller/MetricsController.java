@@ -0,0 +1,33 @@
+package com.taskflow.controller;
+
+import com.taskflow.deadline.DeadlineMetrics;
+import com.taskflow.dto.WarmupReport;
+import com.taskflow.warmup.WarmupRunner;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/metrics")
+public class MetricsController {
+
+    private final DeadlineMetrics deadlineMetrics;
+    private final WarmupRunner warmupRunner;
+
+    public MetricsController(DeadlineMetrics deadlineMetrics, WarmupRunner warmupRunner) {
+        this.deadlineMetrics = deadlineMetrics;
+        this.warmupRunner = warmupRunner;
+    }
+
+    @GetMapping("/deadlines")
+    public Map<String, Object> getDeadlineMetrics() {
+        return deadlineMetrics.snapshot();
+    }
+
+    @GetMapping("/warmup")
+    public WarmupReport getWarmupReport() {
+        return warmupRunner.report();
+    }
+}
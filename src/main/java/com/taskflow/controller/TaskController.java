@@ -1,8 +1,12 @@
 package com.taskflow.controller;
 
 import java.util.List;
+import java.util.Map;
 
+import com.taskflow.audit.AuditRecord;
+import com.taskflow.dto.TaskInboxPage;
 import com.taskflow.model.Task;
+import com.taskflow.repository.FieldSelection;
 import com.taskflow.service.TaskService;
 
 import jakarta.validation.Valid;
@@ -23,11 +27,26 @@ public class TaskController {
         return taskService.getAllTasks();
     }
 
+    @GetMapping(params = "fields")
+    public List<Map<String, Object>> getAllTasks(@RequestParam String fields) {
+        return taskService.getAllTasks(FieldSelection.ofTask(fields));
+    }
+
     @GetMapping("/{id}")
     public Task getTaskById(@PathVariable Long id) {
         return taskService.getTaskById(id);
     }
 
+    @GetMapping(value = "/{id}", params = "fields")
+    public Map<String, Object> getTaskById(@PathVariable Long id, @RequestParam String fields) {
+        return taskService.getTaskById(id, FieldSelection.ofTask(fields));
+    }
+
+    @GetMapping("/{id}/history")
+    public List<AuditRecord> getTaskHistory(@PathVariable Long id) {
+        return taskService.getTaskHistory(id);
+    }
+
     @PostMapping
     public Task createTask(@Valid @RequestBody Task newTask) {
         return taskService.createTask(newTask);
@@ -48,8 +67,25 @@ public class TaskController {
         return taskService.getTasksByUserId(userId);
     }
 
+    @GetMapping(value = "/user/{userId}", params = "fields")
+    public List<Map<String, Object>> getTasksByUserId(@PathVariable Long userId, @RequestParam String fields) {
+        return taskService.getTasksByUserId(userId, FieldSelection.ofTask(fields));
+    }
+
+    @GetMapping("/user/{userId}/inbox")
+    public TaskInboxPage getTaskInbox(@PathVariable Long userId,
+                                      @RequestParam(required = false) String cursor,
+                                      @RequestParam(required = false) Integer size) {
+        return taskService.getTaskInbox(userId, cursor, size);
+    }
+
     @GetMapping("/search")
     public List<Task> searchTasks(@RequestParam String keyword) {
         return taskService.searchTasksByTitle(keyword);
     }
+
+    @GetMapping(value = "/search", params = "fields")
+    public List<Map<String, Object>> searchTasks(@RequestParam String keyword, @RequestParam String fields) {
+        return taskService.searchTasksByTitle(keyword, FieldSelection.ofTask(fields));
+    }
 }
@@ -0,0 +1,63 @@
+package com.taskflow.controller;
+
+import com.taskflow.dto.ImportJobStatus;
+import com.taskflow.dto.ImportRowError;
+import com.taskflow.service.importer.ImportFormat;
+import com.taskflow.service.importer.TaskImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/tasks/import")
+public class TaskImportController {
+
+    private final TaskImportService taskImportService;
+
+    public TaskImportController(TaskImportService taskImportService) {
+        this.taskImportService = taskImportService;
+    }
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportJobStatus> importFile(@RequestParam("file") MultipartFile file,
+                                                      @RequestParam(required = false) ImportFormat format,
+                                                      @RequestParam(defaultValue = "0") long startRow) throws IOException {
+        ImportFormat resolved = format != null ? format : ImportFormat.fromFilename(file.getOriginalFilename());
+        return ResponseEntity.accepted().body(taskImportService.submit(file, resolved, startRow));
+    }
+
+    @PostMapping(consumes = {"text/csv", "application/x-ndjson", "application/jsonl"})
+    public ResponseEntity<ImportJobStatus> importStream(HttpServletRequest request,
+                                                        @RequestParam(defaultValue = "0") long startRow) throws IOException {
+        ImportFormat format = ImportFormat.fromContentType(request.getContentType());
+        try (InputStream content = request.getInputStream()) {
+            return ResponseEntity.accepted().body(taskImportService.submit(content, format, startRow));
+        }
+    }
+
+    @GetMapping("/{jobId}")
+    public ImportJobStatus getJob(@PathVariable String jobId) {
+        return taskImportService.getJob(jobId);
+    }
+
+    @GetMapping("/{jobId}/errors")
+    public List<ImportRowError> getErrors(@PathVariable String jobId) {
+        return taskImportService.getErrors(jobId);
+    }
+
+    @PostMapping("/{jobId}/resume")
+    public ResponseEntity<ImportJobStatus> resume(@PathVariable String jobId) {
+        return ResponseEntity.accepted().body(taskImportService.resume(jobId));
+    }
+
+    @DeleteMapping("/{jobId}")
+    public ImportJobStatus cancel(@PathVariable String jobId) {
+        return taskImportService.cancel(jobId);
+    }
+}
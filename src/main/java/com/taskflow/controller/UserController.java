@@ -1,11 +1,13 @@
 package com.taskflow.controller;
 
 import com.taskflow.model.User;
+import com.taskflow.repository.FieldSelection;
 import com.taskflow.service.UserService;
 import jakarta.validation.Valid;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/users")
@@ -22,11 +24,21 @@ public class UserController {
         return userService.getAllUsers();
     }
 
+    @GetMapping(params = "fields")
+    public List<Map<String, Object>> getAllUsers(@RequestParam String fields) {
+        return userService.getAllUsers(FieldSelection.ofUser(fields));
+    }
+
     @GetMapping("/{id}")
     public User getUserById(@PathVariable Long id) {
         return userService.getUserById(id);
     }
 
+    @GetMapping(value = "/{id}", params = "fields")
+    public Map<String, Object> getUserById(@PathVariable Long id, @RequestParam String fields) {
+        return userService.getUserById(id, FieldSelection.ofUser(fields));
+    }
+
     @PostMapping
     public User createUser(@Valid @RequestBody User newUser) {
         return userService.createUser(newUser);
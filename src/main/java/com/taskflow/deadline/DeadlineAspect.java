@@ -0,0 +1,39 @@
+package com.taskflow.deadline;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+
+/**
+ * Refuses to start a service call once the request's deadline has passed, so an
+ * abandoned request stops at the next service boundary instead of running to the end.
+ * Event listeners are exempt and run without the deadline: they react to a change that
+ * is already committed, so cutting them short would answer 504 for a write that happened
+ * and leave the read models and the audit log without it.
+ */
+@Aspect
+public class DeadlineAspect {
+
+    @Pointcut("@annotation(org.springframework.context.event.EventListener)"
+            + " || @annotation(org.springframework.transaction.event.TransactionalEventListener)")
+    void eventListener() {
+    }
+
+    @Around("@within(org.springframework.stereotype.Service) && execution(public * *(..)) && !eventListener()")
+    public Object aroundServiceCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        RequestDeadline.checkCurrent(joinPoint.getSignature().getDeclaringType().getSimpleName()
+                + "." + joinPoint.getSignature().getName());
+        return joinPoint.proceed();
+    }
+
+    @Around("eventListener() && execution(* *(..))")
+    public Object aroundEventListener(ProceedingJoinPoint joinPoint) throws Throwable {
+        RequestDeadline suspended = RequestDeadline.suspend();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            RequestDeadline.resume(suspended);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.taskflow.deadline;
+
+import com.taskflow.config.DeadlineProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Binds a {@link RequestDeadline} to each request, from the client's timeout header or
+ * the server-side default for the endpoint.
+ */
+public class DeadlineFilter extends OncePerRequestFilter {
+
+    private final DeadlineProperties properties;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public DeadlineFilter(DeadlineProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestDeadline.start(request.getMethod() + " " + request.getRequestURI(), timeoutMs(request));
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RequestDeadline.clear();
+        }
+    }
+
+    long timeoutMs(HttpServletRequest request) {
+        String header = request.getHeader(properties.headerName());
+        if (header != null) {
+            try {
+                return Math.min(Long.parseLong(header.trim()), properties.maxTimeoutMs());
+            } catch (NumberFormatException ex) {
+                // malformed header: fall back to the endpoint default
+            }
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (DeadlineProperties.Endpoint endpoint : properties.endpoints()) {
+            if ((endpoint.method() == null || endpoint.method().equalsIgnoreCase(request.getMethod()))
+                    && pathMatcher.match(endpoint.pattern(), path)) {
+                return endpoint.timeoutMs();
+            }
+        }
+        return properties.defaultTimeoutMs();
+    }
+}
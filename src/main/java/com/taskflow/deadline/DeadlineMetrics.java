@@ -0,0 +1,43 @@
+package com.taskflow.deadline;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts requests answered with 504 because their deadline expired, per endpoint pattern
+ * and per cause.
+ */
+public class DeadlineMetrics {
+
+    public enum Cause {
+        /** the deadline had passed before a service call or query started */
+        EXPIRED,
+        /** a query hit its JDBC timeout, or was refused because no budget was left */
+        QUERY_TIMEOUT
+    }
+
+    private final Map<Cause, LongAdder> byCause = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> byEndpoint = new ConcurrentHashMap<>();
+
+    public void recordExpired(String endpoint, Cause cause) {
+        byCause.computeIfAbsent(cause, c -> new LongAdder()).increment();
+        byEndpoint.computeIfAbsent(endpoint, e -> new LongAdder()).increment();
+    }
+
+    public long count(Cause cause) {
+        LongAdder adder = byCause.get(cause);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    public Map<String, Object> snapshot() {
+        Map<String, Long> causes = new TreeMap<>();
+        for (Cause cause : Cause.values()) {
+            causes.put(cause.name(), count(cause));
+        }
+        Map<String, Long> endpoints = new TreeMap<>();
+        byEndpoint.forEach((endpoint, adder) -> endpoints.put(endpoint, adder.sum()));
+        return Map.of("byCause", causes, "byEndpoint", endpoints);
+    }
+}
@@ -0,0 +1,134 @@
+package com.taskflow.deadline;
+
+import com.taskflow.exception.DeadlineExceededException;
+
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The point in time by which the current request must be answered. It is bound to the
+ * request thread by {@link DeadlineFilter}; work handed to other threads must be wrapped
+ * with {@link #propagate(Callable)} to keep it.
+ */
+public final class RequestDeadline {
+
+    private static final ThreadLocal<RequestDeadline> CURRENT = new ThreadLocal<>();
+
+    private final String endpoint;
+    private final long expiresAtNanos;
+
+    private RequestDeadline(String endpoint, long expiresAtNanos) {
+        this.endpoint = endpoint;
+        this.expiresAtNanos = expiresAtNanos;
+    }
+
+    public static RequestDeadline start(String endpoint, long timeoutMs) {
+        RequestDeadline deadline = new RequestDeadline(endpoint,
+                System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(0, timeoutMs)));
+        CURRENT.set(deadline);
+        return deadline;
+    }
+
+    public static RequestDeadline current() {
+        return CURRENT.get();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Unbinds the current thread's deadline, returning it for {@link #resume}.
+     */
+    static RequestDeadline suspend() {
+        RequestDeadline deadline = CURRENT.get();
+        CURRENT.remove();
+        return deadline;
+    }
+
+    static void resume(RequestDeadline deadline) {
+        if (deadline == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(deadline);
+        }
+    }
+
+    /**
+     * Throws {@link DeadlineExceededException} if the current thread has a deadline that
+     * has already passed.
+     */
+    public static void checkCurrent(String stage) {
+        RequestDeadline deadline = CURRENT.get();
+        if (deadline != null && deadline.isExpired()) {
+            throw new DeadlineExceededException(
+                    "Deadline of " + deadline.endpoint + " exceeded before " + stage);
+        }
+    }
+
+    /**
+     * Gives the statement a query timeout equal to the remaining budget. JDBC timeouts are
+     * whole seconds, so the budget is rounded up and never below one second.
+     */
+    public static void applyQueryTimeout(Statement statement) throws SQLException {
+        RequestDeadline deadline = CURRENT.get();
+        if (deadline == null) {
+            return;
+        }
+        long remainingMs = deadline.remainingMillis();
+        if (remainingMs <= 0) {
+            throw new SQLTimeoutException("Deadline of " + deadline.endpoint + " exceeded before query");
+        }
+        int seconds = (int) Math.min(Integer.MAX_VALUE, (remainingMs + 999) / 1000);
+        if (statement.getQueryTimeout() == 0 || statement.getQueryTimeout() > seconds) {
+            statement.setQueryTimeout(seconds);
+        }
+    }
+
+    public static <T> Callable<T> propagate(Callable<T> work) {
+        RequestDeadline deadline = CURRENT.get();
+        if (deadline == null) {
+            return work;
+        }
+        return () -> {
+            RequestDeadline previous = CURRENT.get();
+            CURRENT.set(deadline);
+            try {
+                return work.call();
+            } finally {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    public static Runnable propagate(Runnable work) {
+        RequestDeadline deadline = CURRENT.get();
+        if (deadline == null) {
+            return work;
+        }
+        return () -> {
+            RequestDeadline previous = CURRENT.get();
+            CURRENT.set(deadline);
+            try {
+                work.run();
+            } finally {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    public String endpoint() {
+        return endpoint;
+    }
+
+    public long remainingMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(expiresAtNanos - System.nanoTime());
+    }
+
+    public boolean isExpired() {
+        return expiresAtNanos - System.nanoTime() <= 0;
+    }
+}
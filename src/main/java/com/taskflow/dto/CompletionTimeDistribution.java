@@ -0,0 +1,16 @@
+package com.taskflow.dto;
+
+import java.util.Map;
+
+/**
+ * Time from creation to completion of completed tasks, in seconds.
+ */
+public record CompletionTimeDistribution(
+        long count,
+        long meanSeconds,
+        long p50Seconds,
+        long p90Seconds,
+        long p99Seconds,
+        long maxSeconds,
+        Map<String, Long> buckets) {
+}
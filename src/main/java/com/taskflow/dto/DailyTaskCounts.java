@@ -0,0 +1,9 @@
+package com.taskflow.dto;
+
+import java.time.LocalDate;
+
+public record DailyTaskCounts(
+        LocalDate date,
+        long created,
+        long completed) {
+}
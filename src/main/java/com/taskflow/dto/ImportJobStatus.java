@@ -0,0 +1,27 @@
+package com.taskflow.dto;
+
+import com.taskflow.service.importer.ImportFormat;
+import com.taskflow.service.importer.ImportJobState;
+
+import java.time.Instant;
+
+/**
+ * Progress of an import job. {@code committedRows} is the offset to resume from: every
+ * row up to it has been either stored or reported as rejected. {@code parseMillis} and
+ * {@code writeMillis} split the elapsed time between reading the file and the database.
+ */
+public record ImportJobStatus(
+        String id,
+        ImportFormat format,
+        ImportJobState state,
+        long startRow,
+        long committedRows,
+        long imported,
+        long rejected,
+        double rowsPerSecond,
+        long parseMillis,
+        long writeMillis,
+        Instant startedAt,
+        Instant finishedAt,
+        String failureMessage) {
+}
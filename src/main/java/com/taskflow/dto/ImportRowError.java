@@ -0,0 +1,4 @@
+package com.taskflow.dto;
+
+public record ImportRowError(long row, String message) {
+}
@@ -0,0 +1,14 @@
+package com.taskflow.dto;
+
+import com.taskflow.model.Task;
+import com.taskflow.model.TaskStatus;
+
+import java.util.List;
+import java.util.Map;
+
+public record TaskInboxPage(
+        List<Task> tasks,
+        Map<TaskStatus, Integer> counts,
+        int total,
+        String nextCursor) {
+}
@@ -0,0 +1,11 @@
+package com.taskflow.dto;
+
+import com.taskflow.model.TaskStatus;
+
+import java.util.Map;
+
+public record UserTaskCounts(
+        Long userId,
+        long total,
+        Map<TaskStatus, Long> byStatus) {
+}
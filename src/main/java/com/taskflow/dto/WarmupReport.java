@@ -0,0 +1,27 @@
+package com.taskflow.dto;
+
+/**
+ * Outcome of the warm-up phase. {@code first} and {@code last} are the first and last
+ * measurement windows, i.e. the latency before and after warm-up.
+ */
+public record WarmupReport(
+        Outcome outcome,
+        long durationMs,
+        long requests,
+        Window first,
+        Window last) {
+
+    public enum Outcome {
+        RUNNING,
+        STABLE,
+        TIME_LIMIT,
+        SKIPPED,
+        FAILED
+    }
+
+    public record Window(
+            double requestsPerSecond,
+            double p50Ms,
+            double p99Ms) {
+    }
+}
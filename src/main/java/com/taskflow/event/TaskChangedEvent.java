@@ -0,0 +1,24 @@
+package com.taskflow.event;
+
+/**
+ * Published by {@code TaskService} after every write. {@code before} is null for
+ * creations and {@code after} is null for deletions.
+ */
+public record TaskChangedEvent(TaskSnapshot before, TaskSnapshot after) {
+
+    public static TaskChangedEvent created(TaskSnapshot after) {
+        return new TaskChangedEvent(null, after);
+    }
+
+    public static TaskChangedEvent updated(TaskSnapshot before, TaskSnapshot after) {
+        return new TaskChangedEvent(before, after);
+    }
+
+    public static TaskChangedEvent deleted(TaskSnapshot before) {
+        return new TaskChangedEvent(before, null);
+    }
+
+    public Long taskId() {
+        return after != null ? after.id() : before.id();
+    }
+}
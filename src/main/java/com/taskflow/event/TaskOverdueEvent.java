@@ -0,0 +1,9 @@
+package com.taskflow.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published once when an open task passes its due date.
+ */
+public record TaskOverdueEvent(Long taskId, LocalDateTime detectedAt) {
+}
@@ -0,0 +1,28 @@
+package com.taskflow.event;
+
+import com.taskflow.model.Task;
+import com.taskflow.model.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Immutable copy of a task's state at a point in time. {@link Task} is a mutable
+ * entity, so listeners get snapshots instead of the entity itself.
+ */
+public record TaskSnapshot(
+        Long id,
+        String title,
+        String description,
+        TaskStatus status,
+        Long assigneeId,
+        LocalDateTime createdAt,
+        LocalDateTime completedAt,
+        LocalDateTime dueAt) {
+
+    public static TaskSnapshot of(Task task) {
+        Long assigneeId = task.getAssignedTo() != null ? task.getAssignedTo().getId() : null;
+        return new TaskSnapshot(task.getId(), task.getTitle(), task.getDescription(),
+                task.getStatus(), assigneeId, task.getCreatedAt(), task.getCompletedAt(),
+                task.getDueAt());
+    }
+}
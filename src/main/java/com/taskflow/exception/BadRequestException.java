@@ -0,0 +1,12 @@
+package com.taskflow.exception;
+
+/**
+ * Invalid client input, such as a malformed cursor or an unknown field. Answered with 400
+ * and its message, so the message must be meant for the client.
+ */
+public class BadRequestException extends RuntimeException {
+
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
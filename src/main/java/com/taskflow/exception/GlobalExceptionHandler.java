@@ -1,8 +1,14 @@
 package com.taskflow.exception;
 
+import com.taskflow.deadline.DeadlineMetrics;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.http.*;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.servlet.HandlerMapping;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -10,6 +16,12 @@ import java.util.*;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private final DeadlineMetrics deadlineMetrics;
+
+    public GlobalExceptionHandler(DeadlineMetrics deadlineMetrics) {
+        this.deadlineMetrics = deadlineMetrics;
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, String>> handleValidationErrors(MethodArgumentNotValidException ex) {
 
@@ -25,6 +37,41 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(errors);
     }
 
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<Map<String,Object>> handleBadRequest(BadRequestException ex) {
+        Map<String, Object> error = new HashMap<>();
+        error.put("timestamp", LocalDateTime.now());
+        error.put("status", 400);
+        error.put("message", ex.getMessage());
+
+        return ResponseEntity.badRequest().body(error);
+    }
+
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    public ResponseEntity<Map<String,Object>> handleMaxUploadSizeExceeded(MaxUploadSizeExceededException ex) {
+        Map<String, Object> error = new HashMap<>();
+        error.put("timestamp", LocalDateTime.now());
+        error.put("status", 400);
+        // the container does not always report the limit
+        error.put("message", ex.getMaxUploadSize() > 0
+                ? "Upload exceeds the maximum size of " + DataSize.ofBytes(ex.getMaxUploadSize())
+                : "Upload exceeds the maximum allowed size");
+
+        return ResponseEntity.badRequest().body(error);
+    }
+
+    @ExceptionHandler(DeadlineExceededException.class)
+    public ResponseEntity<Map<String,Object>> handleDeadlineExceeded(DeadlineExceededException ex, HttpServletRequest request) {
+        deadlineMetrics.recordExpired(endpoint(request), DeadlineMetrics.Cause.EXPIRED);
+        return gatewayTimeout(ex.getMessage());
+    }
+
+    @ExceptionHandler(QueryTimeoutException.class)
+    public ResponseEntity<Map<String,Object>> handleQueryTimeout(QueryTimeoutException ex, HttpServletRequest request) {
+        deadlineMetrics.recordExpired(endpoint(request), DeadlineMetrics.Cause.QUERY_TIMEOUT);
+        return gatewayTimeout("Request deadline exceeded while querying the database");
+    }
+
     //tarea no encontrada
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<Map<String,Object>> handleRuntimeException(RuntimeException ex) {
@@ -36,4 +83,18 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
     }
 
+    private ResponseEntity<Map<String,Object>> gatewayTimeout(String message) {
+        Map<String, Object> error = new HashMap<>();
+        error.put("timestamp", LocalDateTime.now());
+        error.put("status", 504);
+        error.put("message", message);
+
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(error);
+    }
+
+    private static String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+    }
+
 }
\ No newline at end of file
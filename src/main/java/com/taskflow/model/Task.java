@@ -1,11 +1,13 @@
 package com.taskflow.model;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.Data;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = @Index(name = "idx_task_due_at", columnList = "dueAt"))
 @Data
 public class Task {
 
@@ -29,4 +31,13 @@ public class Task {
     private User assignedTo;
 
     private LocalDateTime createdAt = LocalDateTime.now();
+
+    private LocalDateTime completedAt;
+
+    private LocalDateTime dueAt;
+
+    // written only by markOverdue/clearOverdue, never by saving the whole row
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(updatable = false)
+    private boolean overdue;
 }
\ No newline at end of file
@@ -0,0 +1,105 @@
+package com.taskflow.monitoring;
+
+import com.taskflow.deadline.RequestDeadline;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Wraps connections and statements so that every {@code execute*} call is timed and
+ * reported to the {@link QueryMonitor}. Statements issued under a {@link RequestDeadline}
+ * also get a query timeout for the remaining budget.
+ */
+public class QueryInspectingDataSource extends DelegatingDataSource {
+
+    private final QueryMonitor queryMonitor;
+
+    public QueryInspectingDataSource(DataSource target, QueryMonitor queryMonitor) {
+        super(target);
+        this.queryMonitor = queryMonitor;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                new ConnectionHandler(connection));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    private class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = QueryInspectingDataSource.invoke(target, method, args);
+            String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+            return switch (method.getName()) {
+                case "prepareCall" -> statement(CallableStatement.class, result, sql);
+                case "prepareStatement" -> statement(PreparedStatement.class, result, sql);
+                case "createStatement" -> statement(Statement.class, result, null);
+                default -> result;
+            };
+        }
+
+        private Object statement(Class<?> type, Object statement, String sql) {
+            return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{type},
+                    new StatementHandler(statement, sql));
+        }
+    }
+
+    private class StatementHandler implements InvocationHandler {
+
+        private final Object target;
+        private final String preparedSql;
+
+        StatementHandler(Object target, String preparedSql) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (!method.getName().startsWith("execute")) {
+                return QueryInspectingDataSource.invoke(target, method, args);
+            }
+            String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : preparedSql;
+            RequestDeadline.applyQueryTimeout((Statement) target);
+            long start = System.nanoTime();
+            try {
+                return QueryInspectingDataSource.invoke(target, method, args);
+            } finally {
+                queryMonitor.statementExecuted(sql, System.nanoTime() - start);
+            }
+        }
+    }
+}
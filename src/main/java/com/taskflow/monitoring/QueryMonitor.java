@@ -0,0 +1,42 @@
+package com.taskflow.monitoring;
+
+import com.taskflow.config.QueryMonitoringProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Receives every statement executed through {@link QueryInspectingDataSource}: counts it
+ * in the open {@link QueryScope}s and logs it when it exceeds the slow-query threshold.
+ */
+public class QueryMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryMonitor.class);
+
+    private final long slowThresholdNanos;
+    private final int maxStatementsPerScope;
+
+    public QueryMonitor(QueryMonitoringProperties properties) {
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(properties.slowThresholdMs());
+        this.maxStatementsPerScope = properties.maxStatementsPerScope();
+    }
+
+    void statementExecuted(String sql, long nanos) {
+        QueryScope.record(sql, nanos);
+        if (nanos >= slowThresholdNanos) {
+            log.warn("Slow query ({} ms) in [{}]: {}",
+                    TimeUnit.NANOSECONDS.toMillis(nanos), QueryScope.describeCurrent(), sql);
+        }
+    }
+
+    void scopeClosed(QueryScope scope) {
+        if (scope.statementCount() > maxStatementsPerScope) {
+            log.warn("[{}] executed {} statements in {} ms, possible N+1 query",
+                    scope.label(), scope.statementCount(), scope.totalMillis());
+        } else if (log.isDebugEnabled()) {
+            log.debug("[{}] executed {} statements in {} ms",
+                    scope.label(), scope.statementCount(), scope.totalMillis());
+        }
+    }
+}
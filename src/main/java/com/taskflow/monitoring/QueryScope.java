@@ -0,0 +1,104 @@
+package com.taskflow.monitoring;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Counts the SQL statements executed by the current thread while the scope is open.
+ * Scopes nest: an HTTP request scope contains the scopes of the service calls it makes,
+ * and every statement is counted in all scopes open at the time.
+ *
+ * <pre>
+ * try (QueryScope scope = QueryScope.open("report")) {
+ *     taskService.getAllTasks();
+ *     assert scope.statementCount() &lt;= 2;
+ * }
+ * </pre>
+ */
+public final class QueryScope implements AutoCloseable {
+
+    static final int MAX_RECORDED_STATEMENTS = 100;
+
+    private static final ThreadLocal<Deque<QueryScope>> OPEN_SCOPES = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private final String label;
+    private final List<String> statements = new ArrayList<>();
+    private int statementCount;
+    private long totalNanos;
+
+    private QueryScope(String label) {
+        this.label = label;
+    }
+
+    public static QueryScope open(String label) {
+        QueryScope scope = new QueryScope(label);
+        OPEN_SCOPES.get().push(scope);
+        return scope;
+    }
+
+    public String label() {
+        return label;
+    }
+
+    public int statementCount() {
+        return statementCount;
+    }
+
+    public long totalMillis() {
+        return totalNanos / 1_000_000;
+    }
+
+    /**
+     * @return the SQL of the first {@value #MAX_RECORDED_STATEMENTS} statements
+     */
+    public List<String> statements() {
+        return List.copyOf(statements);
+    }
+
+    @Override
+    public void close() {
+        Deque<QueryScope> scopes = OPEN_SCOPES.get();
+        scopes.remove(this);
+        if (scopes.isEmpty()) {
+            OPEN_SCOPES.remove();
+        }
+    }
+
+    static void record(String sql, long nanos) {
+        Deque<QueryScope> scopes = OPEN_SCOPES.get();
+        if (scopes.isEmpty()) {
+            OPEN_SCOPES.remove();
+            return;
+        }
+        for (QueryScope scope : scopes) {
+            scope.statementCount++;
+            scope.totalNanos += nanos;
+            if (scope.statements.size() < MAX_RECORDED_STATEMENTS) {
+                scope.statements.add(sql);
+            }
+        }
+    }
+
+    /**
+     * @return the open scopes of the current thread from outermost to innermost, e.g.
+     * {@code "GET /api/tasks > TaskService.getAllTasks"}, or the thread name if none is open
+     */
+    static String describeCurrent() {
+        Deque<QueryScope> scopes = OPEN_SCOPES.get();
+        if (scopes.isEmpty()) {
+            OPEN_SCOPES.remove();
+            return "thread " + Thread.currentThread().getName();
+        }
+        StringBuilder description = new StringBuilder();
+        for (Iterator<QueryScope> it = scopes.descendingIterator(); it.hasNext(); ) {
+            description.append(it.next().label);
+            if (it.hasNext()) {
+                description.append(" > ");
+            }
+        }
+        return description.toString();
+    }
+}
@@ -0,0 +1,33 @@
+package com.taskflow.monitoring;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Opens a {@link QueryScope} per HTTP request, labelled with the method and path.
+ */
+public class QueryScopeFilter extends OncePerRequestFilter {
+
+    private final QueryMonitor queryMonitor;
+
+    public QueryScopeFilter(QueryMonitor queryMonitor) {
+        this.queryMonitor = queryMonitor;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        QueryScope scope = QueryScope.open(request.getMethod() + " " + request.getRequestURI());
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            scope.close();
+            queryMonitor.scopeClosed(scope);
+        }
+    }
+}
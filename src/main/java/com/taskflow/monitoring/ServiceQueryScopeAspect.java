@@ -0,0 +1,32 @@
+package com.taskflow.monitoring;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * Opens a {@link QueryScope} around every public method of a {@code @Service} bean,
+ * labelled {@code TaskService.getAllTasks} and so on.
+ */
+@Aspect
+public class ServiceQueryScopeAspect {
+
+    private final QueryMonitor queryMonitor;
+
+    public ServiceQueryScopeAspect(QueryMonitor queryMonitor) {
+        this.queryMonitor = queryMonitor;
+    }
+
+    @Around("@within(org.springframework.stereotype.Service) && execution(public * *(..))")
+    public Object aroundServiceCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        String label = joinPoint.getSignature().getDeclaringType().getSimpleName()
+                + "." + joinPoint.getSignature().getName();
+        QueryScope scope = QueryScope.open(label);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            scope.close();
+            queryMonitor.scopeClosed(scope);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.taskflow.repository;
+
+import com.taskflow.exception.BadRequestException;
+
+import java.util.*;
+
+/**
+ * The fields a client asked for with {@code ?fields=}, e.g. {@code id,title,assignedTo.name}.
+ * Repositories select only the matching columns and {@link #shape} turns a row into the
+ * response object, nesting assignee fields under {@code assignedTo}. {@code assignedTo}
+ * alone selects every user field. Fields keep the declaration order of the entity.
+ */
+public final class FieldSelection {
+
+    public static final List<String> TASK_FIELDS =
+            List.of("id", "title", "description", "status", "createdAt", "completedAt", "dueAt", "overdue");
+    public static final List<String> USER_FIELDS = List.of("id", "name", "email", "role", "createdAt");
+    public static final String ASSIGNEE = "assignedTo";
+
+    private final List<String> fields;
+    private final List<String> assigneeFields;
+
+    private FieldSelection(List<String> fields, List<String> assigneeFields) {
+        this.fields = fields;
+        this.assigneeFields = assigneeFields;
+    }
+
+    /**
+     * @return null when {@code fields} is absent, meaning the whole task
+     */
+    public static FieldSelection ofTask(String fields) {
+        return parse(fields, TASK_FIELDS, true);
+    }
+
+    /**
+     * @return null when {@code fields} is absent, meaning the whole user
+     */
+    public static FieldSelection ofUser(String fields) {
+        return parse(fields, USER_FIELDS, false);
+    }
+
+    public List<String> fields() {
+        return fields;
+    }
+
+    public List<String> assigneeFields() {
+        return assigneeFields;
+    }
+
+    public boolean includesAssignee() {
+        return !assigneeFields.isEmpty();
+    }
+
+    /**
+     * True when an assignee field other than its id is requested. The id is the foreign key
+     * on the task row, so selecting only that needs no join.
+     */
+    public boolean joinsAssignee() {
+        return assigneeFields.stream().anyMatch(field -> !field.equals("id"));
+    }
+
+    /**
+     * The user fields to load for the assignees, always including their id.
+     */
+    public FieldSelection assigneeSelection() {
+        Set<String> selected = new HashSet<>(assigneeFields);
+        selected.add("id");
+        return new FieldSelection(inOrder(USER_FIELDS, selected), List.of());
+    }
+
+    /**
+     * Paths whose values {@link #shape} expects, in order: the own fields, then the
+     * assignee id, then the other assignee fields.
+     */
+    public List<String> paths() {
+        List<String> paths = new ArrayList<>(fields);
+        if (includesAssignee()) {
+            paths.add(ASSIGNEE + ".id");
+            for (String field : assigneeFields) {
+                if (!field.equals("id")) {
+                    paths.add(ASSIGNEE + "." + field);
+                }
+            }
+        }
+        return paths;
+    }
+
+    public Map<String, Object> shape(Object[] values) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        int i = 0;
+        for (String field : fields) {
+            row.put(field, values[i++]);
+        }
+        if (includesAssignee()) {
+            Object assigneeId = values[i++];
+            if (assigneeId == null) {
+                row.put(ASSIGNEE, null);
+            } else {
+                Map<String, Object> assignee = new LinkedHashMap<>();
+                for (String field : assigneeFields) {
+                    assignee.put(field, field.equals("id") ? assigneeId : values[i++]);
+                }
+                row.put(ASSIGNEE, assignee);
+            }
+        }
+        return row;
+    }
+
+    private static FieldSelection parse(String fields, List<String> allowed, boolean withAssignee) {
+        if (fields == null) {
+            return null;
+        }
+        Set<String> own = new HashSet<>();
+        Set<String> assignee = new HashSet<>();
+        for (String token : fields.split(",")) {
+            String field = token.trim();
+            if (field.isEmpty()) {
+                continue;
+            }
+            if (withAssignee && field.equals(ASSIGNEE)) {
+                assignee.addAll(USER_FIELDS);
+            } else if (withAssignee && field.startsWith(ASSIGNEE + ".")
+                    && USER_FIELDS.contains(field.substring(ASSIGNEE.length() + 1))) {
+                assignee.add(field.substring(ASSIGNEE.length() + 1));
+            } else if (allowed.contains(field)) {
+                own.add(field);
+            } else {
+                throw new BadRequestException("Unknown field '" + field + "'; allowed fields are "
+                        + String.join(", ", allowed) + (withAssignee ? ", " + ASSIGNEE + "[.field]" : ""));
+            }
+        }
+        if (own.isEmpty() && assignee.isEmpty()) {
+            throw new BadRequestException("'fields' must name at least one field");
+        }
+        return new FieldSelection(inOrder(allowed, own), inOrder(USER_FIELDS, assignee));
+    }
+
+    private static List<String> inOrder(List<String> declared, Set<String> selected) {
+        return declared.stream().filter(selected::contains).toList();
+    }
+}
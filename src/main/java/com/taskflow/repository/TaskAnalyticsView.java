@@ -0,0 +1,17 @@
+package com.taskflow.repository;
+
+import com.taskflow.model.TaskStatus;
+
+import java.time.LocalDateTime;
+
+public interface TaskAnalyticsView {
+    Long getId();
+
+    TaskStatus getStatus();
+
+    Long getAssigneeId();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getCompletedAt();
+}
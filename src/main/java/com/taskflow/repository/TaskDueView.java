@@ -0,0 +1,9 @@
+package com.taskflow.repository;
+
+import java.time.LocalDateTime;
+
+public interface TaskDueView {
+    Long getId();
+
+    LocalDateTime getDueAt();
+}
@@ -0,0 +1,24 @@
+package com.taskflow.repository;
+
+/**
+ * A task query answered with only the {@link FieldSelection} columns. At most one of the
+ * filters is set; none means every task.
+ */
+public record TaskFieldQuery(FieldSelection fields, Long id, Long assigneeId, String titleKeyword) {
+
+    public static TaskFieldQuery all(FieldSelection fields) {
+        return new TaskFieldQuery(fields, null, null, null);
+    }
+
+    public static TaskFieldQuery byId(FieldSelection fields, Long id) {
+        return new TaskFieldQuery(fields, id, null, null);
+    }
+
+    public static TaskFieldQuery byAssignee(FieldSelection fields, Long assigneeId) {
+        return new TaskFieldQuery(fields, null, assigneeId, null);
+    }
+
+    public static TaskFieldQuery titleContaining(FieldSelection fields, String keyword) {
+        return new TaskFieldQuery(fields, null, null, keyword);
+    }
+}
@@ -0,0 +1,12 @@
+package com.taskflow.repository;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sparse fieldset queries over tasks.
+ */
+public interface TaskFieldRepository {
+
+    List<Map<String, Object>> findFields(TaskFieldQuery query);
+}
@@ -0,0 +1,60 @@
+package com.taskflow.repository;
+
+import com.taskflow.model.Task;
+import com.taskflow.model.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// Selects only the requested columns. The assignee id is read from the task's foreign key;
+// the users table is joined only when other assignee fields are requested.
+class TaskFieldRepositoryImpl implements TaskFieldRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Map<String, Object>> findFields(TaskFieldQuery query) {
+        FieldSelection fields = query.fields();
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> criteria = cb.createTupleQuery();
+        Root<Task> task = criteria.from(Task.class);
+
+        List<Selection<?>> selections = new ArrayList<>();
+        for (String field : fields.fields()) {
+            selections.add(task.get(field));
+        }
+        if (fields.includesAssignee()) {
+            selections.add(task.get(FieldSelection.ASSIGNEE).get("id"));
+            if (fields.joinsAssignee()) {
+                Join<Task, User> assignee = task.join(FieldSelection.ASSIGNEE, JoinType.LEFT);
+                for (String field : fields.assigneeFields()) {
+                    if (!field.equals("id")) {
+                        selections.add(assignee.get(field));
+                    }
+                }
+            }
+        }
+        criteria.multiselect(selections);
+
+        if (query.id() != null) {
+            criteria.where(cb.equal(task.get("id"), query.id()));
+        } else if (query.assigneeId() != null) {
+            criteria.where(cb.equal(task.get(FieldSelection.ASSIGNEE).get("id"), query.assigneeId()));
+        } else if (query.titleKeyword() != null) {
+            String pattern = "%" + query.titleKeyword().toLowerCase()
+                    .replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+            criteria.where(cb.like(cb.lower(task.get("title")), pattern, '\\'));
+        }
+        criteria.orderBy(cb.asc(task.get("id")));
+
+        return entityManager.createQuery(criteria).getResultList().stream()
+                .map(tuple -> fields.shape(tuple.toArray()))
+                .toList();
+    }
+}
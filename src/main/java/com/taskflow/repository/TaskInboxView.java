@@ -0,0 +1,13 @@
+package com.taskflow.repository;
+
+import com.taskflow.model.TaskStatus;
+
+import java.time.LocalDateTime;
+
+public interface TaskInboxView {
+    Long getId();
+
+    TaskStatus getStatus();
+
+    LocalDateTime getCreatedAt();
+}
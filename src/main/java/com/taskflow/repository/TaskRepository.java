@@ -2,16 +2,74 @@ package com.taskflow.repository;
 
 import com.taskflow.model.Task;
 import com.taskflow.model.TaskStatus;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.stereotype.Repository;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
-@Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+// Only the operations the application uses are exposed, so that the sharded repository
+// implements all of it; the CRUD methods are backed by Spring Data's default implementation.
+// assignedTo is fetched eagerly; the entity graphs load it in the same query instead of
+// one extra select per distinct assignee.
+public interface TaskRepository extends Repository<Task, Long>, TaskFieldRepository {
+    <S extends Task> S save(S task);
+
+    <S extends Task> List<S> saveAll(Iterable<S> tasks);
+
+    Optional<Task> findById(Long id);
+
+    boolean existsById(Long id);
+
+    void deleteById(Long id);
+
+    void deleteAll();
+
+    long count();
+
+    @EntityGraph(attributePaths = "assignedTo")
+    List<Task> findAll();
+
+    @EntityGraph(attributePaths = "assignedTo")
+    List<Task> findAllById(Iterable<Long> ids);
+
+    @EntityGraph(attributePaths = "assignedTo")
     List<Task> findByAssignedToId(Long userId);
 
+    @EntityGraph(attributePaths = "assignedTo")
     List<Task> findByTitleContainingIgnoreCase(String keyword);
 
+    @EntityGraph(attributePaths = "assignedTo")
     List<Task> findByStatus(TaskStatus status);
-}
\ No newline at end of file
+
+    List<TaskInboxView> findInboxByAssignedToId(Long userId);
+
+    @Query("select t.id as id, t.status as status, t.assignedTo.id as assigneeId, "
+            + "t.createdAt as createdAt, t.completedAt as completedAt from Task t")
+    List<TaskAnalyticsView> findAllAnalyticsViews();
+
+    // open, not yet overdue tasks due in (from, to]; served by idx_task_due_at
+    @Query("select t.id as id, t.dueAt as dueAt from Task t where t.dueAt > :from and t.dueAt <= :to "
+            + "and t.overdue = false and t.status in (com.taskflow.model.TaskStatus.PENDING, "
+            + "com.taskflow.model.TaskStatus.IN_PROGRESS)")
+    List<TaskDueView> findOpenTasksDueBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // marks the task overdue only if it is still open and still due by now
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Task t set t.overdue = true where t.id = :id and t.overdue = false and t.dueAt <= :now "
+            + "and t.status in (com.taskflow.model.TaskStatus.PENDING, com.taskflow.model.TaskStatus.IN_PROGRESS)")
+    int markOverdue(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // save() never writes overdue, so that a concurrent markOverdue is not overwritten;
+    // clearing it after the due date moved is explicit
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Task t set t.overdue = false where t.id = :id")
+    int clearOverdue(@Param("id") Long id);
+}
@@ -0,0 +1,16 @@
+package com.taskflow.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sparse fieldset queries over users.
+ */
+public interface UserFieldRepository {
+
+    /**
+     * @param ids the users to load, or null for all of them
+     */
+    List<Map<String, Object>> findFields(FieldSelection fields, Collection<Long> ids);
+}
@@ -0,0 +1,39 @@
+package com.taskflow.repository;
+
+import com.taskflow.model.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+class UserFieldRepositoryImpl implements UserFieldRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Map<String, Object>> findFields(FieldSelection fields, Collection<Long> ids) {
+        if (ids != null && ids.isEmpty()) {
+            return List.of();
+        }
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> criteria = cb.createTupleQuery();
+        Root<User> user = criteria.from(User.class);
+        criteria.multiselect(fields.fields().stream().<Selection<?>>map(user::get).toList());
+        if (ids != null) {
+            criteria.where(user.get("id").in(ids));
+        }
+        criteria.orderBy(cb.asc(user.get("id")));
+
+        return entityManager.createQuery(criteria).getResultList().stream()
+                .map(tuple -> fields.shape(tuple.toArray()))
+                .toList();
+    }
+}
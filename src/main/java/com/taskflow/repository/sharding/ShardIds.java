@@ -0,0 +1,43 @@
+package com.taskflow.repository.sharding;
+
+/**
+ * Global task ids carry their shard in the low {@value #SHARD_BITS} bits:
+ * {@code globalId = localId << SHARD_BITS | shard}, where {@code localId} is the
+ * identity value generated by the shard's own table.
+ */
+final class ShardIds {
+
+    static final int SHARD_BITS = 10;
+    static final int MAX_SHARDS = 1 << SHARD_BITS;
+    private static final long SHARD_MASK = MAX_SHARDS - 1;
+
+    private ShardIds() {
+    }
+
+    static long globalId(int shard, long localId) {
+        return localId << SHARD_BITS | shard;
+    }
+
+    static int shardOf(long globalId) {
+        return (int) (globalId & SHARD_MASK);
+    }
+
+    static long localId(long globalId) {
+        return globalId >>> SHARD_BITS;
+    }
+
+    /**
+     * Unassigned tasks live on shard 0; assigned ones on a shard picked by the SplitMix64
+     * finalizer of the assignee id, so that sequential user ids spread evenly.
+     */
+    static int shardFor(Long assigneeId, int shardCount) {
+        if (assigneeId == null) {
+            return 0;
+        }
+        long z = assigneeId;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        z = z ^ (z >>> 31);
+        return (int) Math.floorMod(z, (long) shardCount);
+    }
+}
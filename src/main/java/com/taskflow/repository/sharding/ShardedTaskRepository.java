@@ -0,0 +1,565 @@
+package com.taskflow.repository.sharding;
+
+import com.taskflow.deadline.RequestDeadline;
+import com.taskflow.model.Task;
+import com.taskflow.model.TaskStatus;
+import com.taskflow.model.User;
+import com.taskflow.repository.TaskAnalyticsView;
+import com.taskflow.repository.FieldSelection;
+import com.taskflow.repository.TaskDueView;
+import com.taskflow.repository.TaskFieldQuery;
+import com.taskflow.repository.TaskInboxView;
+import com.taskflow.repository.TaskRepository;
+import com.taskflow.repository.UserRepository;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * {@link TaskRepository} over several task shards, used when
+ * {@code taskflow.sharding.enabled=true}. Tasks are placed by a hash of their assignee
+ * and their id carries the shard (see {@link ShardIds}), so lookups by id or assignee
+ * touch exactly one shard. Queries without a shard key fan out to all shards in
+ * parallel and their rows are merged in id order.
+ *
+ * <p>Changing a task's assignee may move it to another shard, which gives it a new id.
+ */
+public class ShardedTaskRepository implements TaskRepository, Closeable {
+
+    static final int MERGE_BUFFER_SIZE = 1024;
+    static final int ASSIGNEE_BATCH_SIZE = 500;
+
+    private static final Object END_OF_SHARD = new Object();
+    private static final long OFFER_POLL_MILLIS = 50;
+
+    private final List<TaskShard> shards;
+    private final UserRepository userRepository;
+    // per shard, sized to its connection pool: scans read whole tables and may hold their
+    // thread while the caller drains them, so they get their own threads and cannot
+    // starve the short lookups by id; one connection is left for the writes, which run on
+    // the caller's thread
+    private final List<ExecutorService> scanExecutors = new ArrayList<>();
+    private final List<ExecutorService> lookupExecutors = new ArrayList<>();
+
+    public ShardedTaskRepository(List<DataSource> dataSources, UserRepository userRepository,
+                                 int connectionsPerShard) {
+        if (dataSources.isEmpty() || dataSources.size() > ShardIds.MAX_SHARDS) {
+            throw new IllegalArgumentException("Sharding needs between 1 and " + ShardIds.MAX_SHARDS + " datasources");
+        }
+        List<TaskShard> created = new ArrayList<>();
+        for (int i = 0; i < dataSources.size(); i++) {
+            TaskShard shard = new TaskShard(i, dataSources.get(i));
+            shard.createSchema();
+            created.add(shard);
+        }
+        this.shards = List.copyOf(created);
+        this.userRepository = userRepository;
+
+        int scanThreads = Math.max(1, connectionsPerShard / 2);
+        int lookupThreads = Math.max(1, connectionsPerShard - scanThreads - 1);
+        for (TaskShard shard : shards) {
+            scanExecutors.add(newExecutor("task-shard-" + shard.index() + "-scan-", scanThreads));
+            lookupExecutors.add(newExecutor("task-shard-" + shard.index() + "-lookup-", lookupThreads));
+        }
+    }
+
+    // ---- single-shard operations
+
+    @Override
+    public <S extends Task> S save(S task) {
+        int target = ShardIds.shardFor(assigneeId(task), shards.size());
+        if (task.getCreatedAt() == null) {
+            task.setCreatedAt(LocalDateTime.now());
+        }
+        Long previousId = task.getId();
+        int current = previousId != null ? ShardIds.shardOf(previousId) : target;
+        if (previousId != null && current == target && shards.get(target).update(previousId, task)) {
+            return task;
+        }
+        // a task moving to another shard is copied before the old row goes, so a failed
+        // insert leaves it where it was; if the old row cannot be deleted, the copy is
+        // removed again so the task never lives on both shards. It comes back with the id
+        // of its new shard
+        long id = shards.get(target).insert(task);
+        if (previousId != null && current != target && current < shards.size()) {
+            try {
+                shards.get(current).delete(previousId);
+            } catch (RuntimeException ex) {
+                try {
+                    shards.get(target).delete(id);
+                } catch (RuntimeException undo) {
+                    ex.addSuppressed(undo);
+                }
+                throw ex;
+            }
+        }
+        task.setId(id);
+        return task;
+    }
+
+    @Override
+    public Optional<Task> findById(Long id) {
+        TaskShard shard = shardOf(id);
+        if (shard == null) {
+            return Optional.empty();
+        }
+        List<Task> found = shard.find("where id = ?", ShardIds.localId(id));
+        return hydrate(found).stream().findFirst();
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return findById(id).isPresent();
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        TaskShard shard = shardOf(id);
+        if (shard != null) {
+            shard.delete(id);
+        }
+    }
+
+    @Override
+    public List<Task> findByAssignedToId(Long userId) {
+        return hydrate(shardForAssignee(userId).find("where assigned_to_id = ?", userId));
+    }
+
+    @Override
+    public List<TaskInboxView> findInboxByAssignedToId(Long userId) {
+        return shardForAssignee(userId).find("where assigned_to_id = ?", userId).stream()
+                .map(task -> (TaskInboxView) new InboxView(task.getId(), task.getStatus(), task.getCreatedAt()))
+                .toList();
+    }
+
+    // ---- multi-shard operations
+
+    @Override
+    public <S extends Task> List<S> saveAll(Iterable<S> tasks) {
+        Map<Integer, List<S>> byShard = new TreeMap<>();
+        List<S> all = new ArrayList<>();
+        for (S task : tasks) {
+            byShard.computeIfAbsent(ShardIds.shardFor(assigneeId(task), shards.size()), k -> new ArrayList<>()).add(task);
+            all.add(task);
+        }
+        // one local transaction per shard; there is no atomicity across shards
+        byShard.forEach((shard, group) -> shards.get(shard).inTransaction(() -> {
+            group.forEach(this::save);
+            return null;
+        }));
+        return all;
+    }
+
+    @Override
+    public List<Task> findAllById(Iterable<Long> ids) {
+        Map<TaskShard, List<Long>> byShard = new LinkedHashMap<>();
+        for (Long id : ids) {
+            TaskShard shard = shardOf(id);
+            if (shard != null) {
+                byShard.computeIfAbsent(shard, k -> new ArrayList<>()).add(ShardIds.localId(id));
+            }
+        }
+        List<Future<List<Task>>> futures = new ArrayList<>();
+        byShard.forEach((shard, localIds) -> futures.add(submit(lookupExecutors, shard, () -> shard.find(
+                "where id in (" + String.join(",", Collections.nCopies(localIds.size(), "?")) + ")",
+                localIds.toArray()))));
+
+        List<Task> found = new ArrayList<>();
+        for (Future<List<Task>> future : futures) {
+            found.addAll(await(future));
+        }
+        return hydrate(found);
+    }
+
+    @Override
+    public List<Task> findAll() {
+        return fanOut("");
+    }
+
+    @Override
+    public List<Task> findByStatus(TaskStatus status) {
+        return fanOut("where status = ?", status.name());
+    }
+
+    @Override
+    public List<Task> findByTitleContainingIgnoreCase(String keyword) {
+        return fanOut("where lower(title) like ? escape '\\'", likePattern(keyword));
+    }
+
+    @Override
+    public List<Map<String, Object>> findFields(TaskFieldQuery query) {
+        FieldSelection fields = query.fields();
+        List<List<Object[]>> rows;
+        if (query.id() != null) {
+            TaskShard shard = shardOf(query.id());
+            rows = List.of(shard == null ? List.of()
+                    : shard.findFields(fields, "where id = ?", ShardIds.localId(query.id())));
+        } else if (query.assigneeId() != null) {
+            rows = List.of(shardForAssignee(query.assigneeId())
+                    .findFields(fields, "where assigned_to_id = ? order by id", query.assigneeId()));
+        } else if (query.titleKeyword() != null) {
+            String pattern = likePattern(query.titleKeyword());
+            rows = onAllShards(shard -> shard.findFields(fields, "where lower(title) like ? escape '\\' order by id",
+                    pattern));
+        } else {
+            rows = onAllShards(shard -> shard.findFields(fields, "order by id"));
+        }
+        return shapeFields(fields, mergeById(rows));
+    }
+
+    @Override
+    public List<TaskAnalyticsView> findAllAnalyticsViews() {
+        // no assignee hydration: the view only needs the id stored on the shard
+        List<Future<List<Task>>> futures = shards.stream()
+                .map(shard -> submit(scanExecutors, shard, () -> shard.find("")))
+                .toList();
+        List<TaskAnalyticsView> views = new ArrayList<>();
+        for (Future<List<Task>> future : futures) {
+            for (Task task : await(future)) {
+                views.add(new AnalyticsView(task.getId(), task.getStatus(), assigneeId(task),
+                        task.getCreatedAt(), task.getCompletedAt()));
+            }
+        }
+        return views;
+    }
+
+    @Override
+    public List<TaskDueView> findOpenTasksDueBetween(LocalDateTime from, LocalDateTime to) {
+        List<Future<List<Task>>> futures = shards.stream()
+                .map(shard -> submit(scanExecutors, shard, () -> shard.find(
+                        "where due_at > ? and due_at <= ? and overdue = false and status in ('PENDING', 'IN_PROGRESS')",
+                        Timestamp.valueOf(from), Timestamp.valueOf(to))))
+                .toList();
+        List<TaskDueView> views = new ArrayList<>();
+        for (Future<List<Task>> future : futures) {
+            for (Task task : await(future)) {
+                views.add(new DueView(task.getId(), task.getDueAt()));
+            }
+        }
+        return views;
+    }
+
+    @Override
+    public int markOverdue(Long id, LocalDateTime now) {
+        TaskShard shard = shardOf(id);
+        return shard != null && shard.markOverdue(id, Timestamp.valueOf(now)) ? 1 : 0;
+    }
+
+    @Override
+    public int clearOverdue(Long id) {
+        TaskShard shard = shardOf(id);
+        return shard != null && shard.clearOverdue(id) ? 1 : 0;
+    }
+
+    @Override
+    public long count() {
+        List<Future<Long>> futures = shards.stream()
+                .map(shard -> submit(lookupExecutors, shard, shard::count))
+                .toList();
+        long total = 0;
+        for (Future<Long> future : futures) {
+            total += await(future);
+        }
+        return total;
+    }
+
+    @Override
+    public void deleteAll() {
+        shards.forEach(TaskShard::deleteAll);
+    }
+
+    @Override
+    public void close() throws IOException {
+        scanExecutors.forEach(ExecutorService::shutdownNow);
+        lookupExecutors.forEach(ExecutorService::shutdownNow);
+        for (TaskShard shard : shards) {
+            shard.close();
+        }
+    }
+
+    /**
+     * Runs the query on every shard in parallel. Each shard streams its rows into a
+     * bounded buffer and the caller's thread drains it, so the merge starts with the first
+     * row of any shard and memory is bounded by the buffer plus the result itself. When
+     * the caller stops draining early, e.g. because hydrating a batch failed, the workers
+     * notice that the merge was abandoned and stop reading, releasing their connection
+     * and executor thread. The result is sorted by id, the order
+     * {@link #findFields} merges in, so a listing and its field selection agree.
+     */
+    private List<Task> fanOut(String where, Object... args) {
+        BlockingQueue<Object> buffer = new ArrayBlockingQueue<>(MERGE_BUFFER_SIZE);
+        AtomicBoolean abandoned = new AtomicBoolean();
+        for (TaskShard shard : shards) {
+            scanExecutors.get(shard.index()).execute(RequestDeadline.propagate(() -> {
+                Object last = END_OF_SHARD;
+                try {
+                    shard.stream(where, rs -> offer(buffer, shard.map(rs), abandoned), args);
+                } catch (CancellationException ex) {
+                    return;
+                } catch (RuntimeException ex) {
+                    last = ex;
+                }
+                try {
+                    offer(buffer, last, abandoned);
+                } catch (CancellationException ex) {
+                    // nobody is merging any more
+                }
+            }));
+        }
+
+        try {
+            List<Task> merged = new ArrayList<>();
+            List<Task> batch = new ArrayList<>(ASSIGNEE_BATCH_SIZE);
+            RuntimeException failure = null;
+            int running = shards.size();
+            while (running > 0) {
+                Object next = take(buffer);
+                if (next == END_OF_SHARD) {
+                    running--;
+                } else if (next instanceof RuntimeException ex) {
+                    // keep draining so the other shards are not left blocked on a full buffer
+                    failure = failure == null ? ex : failure;
+                    running--;
+                } else {
+                    batch.add((Task) next);
+                    if (batch.size() == ASSIGNEE_BATCH_SIZE) {
+                        merged.addAll(hydrate(batch));
+                        batch = new ArrayList<>(ASSIGNEE_BATCH_SIZE);
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            merged.addAll(hydrate(batch));
+            merged.sort(Comparator.comparingLong(Task::getId));
+            return merged;
+        } finally {
+            abandoned.set(true);
+            buffer.clear();
+        }
+    }
+
+    private <T> List<T> onAllShards(Function<TaskShard, T> query) {
+        List<Future<T>> futures = shards.stream()
+                .map(shard -> submit(scanExecutors, shard, () -> query.apply(shard)))
+                .toList();
+        List<T> results = new ArrayList<>(futures.size());
+        for (Future<T> future : futures) {
+            results.add(await(future));
+        }
+        return results;
+    }
+
+    /**
+     * Merges the rows of {@link TaskShard#findFields}, each shard's already in id order,
+     * into the global id order a single database returns, and drops the trailing id the
+     * merge is keyed on. Sorting the concatenated runs is a merge for the list sort.
+     */
+    private static List<Object[]> mergeById(List<List<Object[]>> perShard) {
+        List<Object[]> merged = new ArrayList<>();
+        perShard.forEach(merged::addAll);
+        if (perShard.size() > 1) {
+            merged.sort(Comparator.comparingLong(row -> (Long) row[row.length - 1]));
+        }
+        merged.replaceAll(row -> Arrays.copyOf(row, row.length - 1));
+        return merged;
+    }
+
+    /**
+     * Completes rows read by {@link TaskShard#findFields} with the requested assignee
+     * fields, loaded from the primary datasource in one lookup, and shapes them.
+     */
+    private List<Map<String, Object>> shapeFields(FieldSelection fields, List<Object[]> rows) {
+        if (!fields.joinsAssignee()) {
+            return rows.stream().map(fields::shape).toList();
+        }
+        int assigneeColumn = fields.fields().size();
+        Set<Long> assigneeIds = rows.stream()
+                .map(row -> (Long) row[assigneeColumn])
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Object, Map<String, Object>> users = userRepository.findFields(fields.assigneeSelection(), assigneeIds)
+                .stream()
+                .collect(Collectors.toMap(user -> user.get("id"), Function.identity()));
+        List<String> extra = fields.assigneeFields().stream().filter(field -> !field.equals("id")).toList();
+
+        List<Map<String, Object>> shaped = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            Object[] values = Arrays.copyOf(row, row.length + extra.size());
+            Map<String, Object> user = users.getOrDefault(row[assigneeColumn], Map.of());
+            for (int i = 0; i < extra.size(); i++) {
+                values[row.length + i] = user.get(extra.get(i));
+            }
+            shaped.add(fields.shape(values));
+        }
+        return shaped;
+    }
+
+    /**
+     * Replaces the id-only assignees created by {@link TaskShard#map} with the users
+     * stored in the primary datasource, in one lookup per batch.
+     */
+    private List<Task> hydrate(List<Task> tasks) {
+        Set<Long> assigneeIds = tasks.stream()
+                .map(ShardedTaskRepository::assigneeId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (assigneeIds.isEmpty()) {
+            return tasks;
+        }
+        Map<Long, User> users = userRepository.findAllById(assigneeIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        for (Task task : tasks) {
+            Long assigneeId = assigneeId(task);
+            if (assigneeId != null && users.containsKey(assigneeId)) {
+                task.setAssignedTo(users.get(assigneeId));
+            }
+        }
+        return tasks;
+    }
+
+    private static <T> Future<T> submit(List<ExecutorService> executors, TaskShard shard, Callable<T> query) {
+        return executors.get(shard.index()).submit(RequestDeadline.propagate(query));
+    }
+
+    private static ExecutorService newExecutor(String namePrefix, int threads) {
+        AtomicInteger count = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private TaskShard shardOf(Long id) {
+        if (id == null) {
+            return null;
+        }
+        int shard = ShardIds.shardOf(id);
+        return shard < shards.size() ? shards.get(shard) : null;
+    }
+
+    private TaskShard shardForAssignee(Long userId) {
+        return shards.get(ShardIds.shardFor(userId, shards.size()));
+    }
+
+    private static String likePattern(String keyword) {
+        return "%" + keyword.toLowerCase()
+                .replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    }
+
+    private static Long assigneeId(Task task) {
+        return task.getAssignedTo() != null ? task.getAssignedTo().getId() : null;
+    }
+
+    /**
+     * Hands an item to the merging thread, waiting while the buffer is full.
+     *
+     * @throws CancellationException once the merge has been abandoned
+     */
+    private static void offer(BlockingQueue<Object> buffer, Object item, AtomicBoolean abandoned) {
+        try {
+            while (!buffer.offer(item, OFFER_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (abandoned.get()) {
+                    throw new CancellationException("Shard merge abandoned");
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while merging shard results");
+        }
+    }
+
+    private static Object take(BlockingQueue<Object> buffer) {
+        try {
+            return buffer.take();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while merging shard results", ex);
+        }
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while querying shards", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    private record InboxView(Long id, TaskStatus status, LocalDateTime createdAt) implements TaskInboxView {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public TaskStatus getStatus() {
+            return status;
+        }
+
+        @Override
+        public LocalDateTime getCreatedAt() {
+            return createdAt;
+        }
+    }
+
+    private record AnalyticsView(Long id, TaskStatus status, Long assigneeId, LocalDateTime createdAt,
+                                 LocalDateTime completedAt) implements TaskAnalyticsView {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public TaskStatus getStatus() {
+            return status;
+        }
+
+        @Override
+        public Long getAssigneeId() {
+            return assigneeId;
+        }
+
+        @Override
+        public LocalDateTime getCreatedAt() {
+            return createdAt;
+        }
+
+        @Override
+        public LocalDateTime getCompletedAt() {
+            return completedAt;
+        }
+    }
+
+    private record DueView(Long id, LocalDateTime dueAt) implements TaskDueView {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public LocalDateTime getDueAt() {
+            return dueAt;
+        }
+    }
+}
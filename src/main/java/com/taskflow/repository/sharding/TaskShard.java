@@ -0,0 +1,224 @@
+package com.taskflow.repository.sharding;
+
+import com.taskflow.model.Task;
+import com.taskflow.model.TaskStatus;
+import com.taskflow.model.User;
+import com.taskflow.repository.FieldSelection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * One task shard: a datasource holding its own {@code task} table. Rows store the local
+ * identity value; ids are translated to global ids on the way in and out.
+ */
+class TaskShard {
+
+    static final String COLUMNS =
+            "id, title, description, status, assigned_to_id, created_at, completed_at, due_at, overdue";
+
+    private static final String[] SCHEMA = {
+            "create table if not exists task ("
+                    + "id bigint generated by default as identity primary key, "
+                    + "title varchar(100) not null, "
+                    + "description varchar(500), "
+                    + "status varchar(20) not null, "
+                    + "assigned_to_id bigint, "
+                    + "created_at timestamp, "
+                    + "completed_at timestamp, "
+                    + "due_at timestamp, "
+                    + "overdue boolean default false not null)",
+            "alter table task add column if not exists completed_at timestamp",
+            "alter table task add column if not exists due_at timestamp",
+            "alter table task add column if not exists overdue boolean default false not null",
+            "create index if not exists idx_task_assigned_to on task (assigned_to_id)",
+            "create index if not exists idx_task_status on task (status)",
+            "create index if not exists idx_task_due_at on task (due_at)"
+    };
+
+    private final int index;
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    TaskShard(int index, DataSource dataSource) {
+        this.index = index;
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    int index() {
+        return index;
+    }
+
+    void createSchema() {
+        for (String statement : SCHEMA) {
+            jdbcTemplate.execute(statement);
+        }
+    }
+
+    <T> T inTransaction(Supplier<T> work) {
+        return transactionTemplate.execute(status -> work.get());
+    }
+
+    long insert(Task task) {
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "insert into task (title, description, status, assigned_to_id, created_at, completed_at, "
+                            + "due_at, overdue) values (?, ?, ?, ?, ?, ?, ?, ?)",
+                    new String[]{"id"});
+            bind(statement, task);
+            statement.setBoolean(8, task.isOverdue());
+            return statement;
+        }, keys);
+        return ShardIds.globalId(index, keys.getKey().longValue());
+    }
+
+    boolean update(long globalId, Task task) {
+        return jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "update task set title = ?, description = ?, status = ?, assigned_to_id = ?, created_at = ?, "
+                            + "completed_at = ?, due_at = ? where id = ?");
+            bind(statement, task);
+            statement.setLong(8, ShardIds.localId(globalId));
+            return statement;
+        }) > 0;
+    }
+
+    boolean markOverdue(long globalId, Timestamp now) {
+        return jdbcTemplate.update("update task set overdue = true where id = ? and overdue = false and due_at <= ? "
+                + "and status in ('PENDING', 'IN_PROGRESS')", ShardIds.localId(globalId), now) > 0;
+    }
+
+    boolean clearOverdue(long globalId) {
+        return jdbcTemplate.update("update task set overdue = false where id = ?", ShardIds.localId(globalId)) > 0;
+    }
+
+    void delete(long globalId) {
+        jdbcTemplate.update("delete from task where id = ?", ShardIds.localId(globalId));
+    }
+
+    void deleteAll() {
+        jdbcTemplate.update("delete from task");
+    }
+
+    List<Task> find(String where, Object... args) {
+        return jdbcTemplate.query("select " + COLUMNS + " from task " + where, (rs, rowNum) -> map(rs), args);
+    }
+
+    void stream(String where, RowCallbackHandler handler, Object... args) {
+        jdbcTemplate.query("select " + COLUMNS + " from task " + where, handler, args);
+    }
+
+    /**
+     * Reads only the columns of the selected task fields, followed by the assignee id when
+     * any assignee field is selected and always by the task id, which the repository
+     * merges shards by. Values are converted as in {@link #map}.
+     */
+    List<Object[]> findFields(FieldSelection fields, String where, Object... args) {
+        List<String> columns = new ArrayList<>();
+        for (String field : fields.fields()) {
+            columns.add(field.replaceAll("([A-Z])", "_$1").toLowerCase());
+        }
+        if (fields.includesAssignee()) {
+            columns.add("assigned_to_id");
+        }
+        columns.add("id");
+        return jdbcTemplate.query("select " + String.join(", ", columns) + " from task " + where, (rs, rowNum) -> {
+            Object[] values = new Object[columns.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = read(rs, columns.get(i));
+            }
+            return values;
+        }, args);
+    }
+
+    long count() {
+        Long count = jdbcTemplate.queryForObject("select count(*) from task", Long.class);
+        return count == null ? 0 : count;
+    }
+
+    void close() throws IOException {
+        DataSource target = dataSource instanceof DelegatingDataSource delegating
+                ? delegating.getTargetDataSource()
+                : dataSource;
+        if (target instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+
+    /**
+     * Maps the current row. The assignee only carries its id; the repository replaces it
+     * with the full {@link User} from the primary datasource.
+     */
+    Task map(ResultSet rs) throws SQLException {
+        Task task = new Task();
+        task.setId(ShardIds.globalId(index, rs.getLong("id")));
+        task.setTitle(rs.getString("title"));
+        task.setDescription(rs.getString("description"));
+        task.setStatus(TaskStatus.valueOf(rs.getString("status")));
+        long assigneeId = rs.getLong("assigned_to_id");
+        if (!rs.wasNull()) {
+            User assignee = new User();
+            assignee.setId(assigneeId);
+            task.setAssignedTo(assignee);
+        }
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        task.setCreatedAt(createdAt == null ? null : createdAt.toLocalDateTime());
+        Timestamp completedAt = rs.getTimestamp("completed_at");
+        task.setCompletedAt(completedAt == null ? null : completedAt.toLocalDateTime());
+        Timestamp dueAt = rs.getTimestamp("due_at");
+        task.setDueAt(dueAt == null ? null : dueAt.toLocalDateTime());
+        task.setOverdue(rs.getBoolean("overdue"));
+        return task;
+    }
+
+    private Object read(ResultSet rs, String column) throws SQLException {
+        return switch (column) {
+            case "id" -> ShardIds.globalId(index, rs.getLong(column));
+            case "status" -> TaskStatus.valueOf(rs.getString(column));
+            case "overdue" -> rs.getBoolean(column);
+            case "assigned_to_id" -> {
+                long assigneeId = rs.getLong(column);
+                yield rs.wasNull() ? null : assigneeId;
+            }
+            case "created_at", "completed_at", "due_at" -> {
+                Timestamp timestamp = rs.getTimestamp(column);
+                yield timestamp == null ? null : timestamp.toLocalDateTime();
+            }
+            default -> rs.getString(column);
+        };
+    }
+
+    private static void bind(PreparedStatement statement, Task task) throws SQLException {
+        statement.setString(1, task.getTitle());
+        statement.setString(2, task.getDescription());
+        statement.setString(3, task.getStatus().name());
+        if (task.getAssignedTo() != null && task.getAssignedTo().getId() != null) {
+            statement.setLong(4, task.getAssignedTo().getId());
+        } else {
+            statement.setNull(4, Types.BIGINT);
+        }
+        statement.setTimestamp(5, task.getCreatedAt() == null ? null : Timestamp.valueOf(task.getCreatedAt()));
+        statement.setTimestamp(6, task.getCompletedAt() == null ? null : Timestamp.valueOf(task.getCompletedAt()));
+        statement.setTimestamp(7, task.getDueAt() == null ? null : Timestamp.valueOf(task.getDueAt()));
+    }
+}
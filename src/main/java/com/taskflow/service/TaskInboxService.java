@@ -0,0 +1,271 @@
+package com.taskflow.service;
+
+import com.taskflow.config.InboxProperties;
+import com.taskflow.dto.TaskInboxPage;
+import com.taskflow.event.TaskChangedEvent;
+import com.taskflow.event.TaskSnapshot;
+import com.taskflow.exception.BadRequestException;
+import com.taskflow.model.Task;
+import com.taskflow.model.TaskStatus;
+import com.taskflow.repository.TaskInboxView;
+import com.taskflow.repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Per-user inbox read model. Each user's tasks are kept ordered by status priority and
+ * then recency, together with per-status counts. An inbox is loaded from the database the
+ * first time it is read and is then maintained from {@link TaskChangedEvent}s, so serving a
+ * page costs an in-memory seek plus one primary-key lookup for the tasks on that page.
+ * At most {@code taskflow.inbox.max-cached-users} inboxes are kept, evicting the least
+ * recently read. Events only reach the instance that handled the write, so with several
+ * instances a cached inbox misses the others' changes; it is reloaded once it is older than
+ * {@code taskflow.inbox.max-age}, which bounds how stale it can get.
+ */
+@Service
+public class TaskInboxService {
+
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+
+    private final TaskRepository taskRepository;
+    private final long maxAgeNanos;
+    // access-ordered for LRU eviction; guarded by this, like loading
+    private final LinkedHashMap<Long, UserInbox> inboxes;
+    // changes seen while an inbox is being loaded, one list per load in flight
+    private final Map<Long, List<List<TaskChangedEvent>>> loading = new HashMap<>();
+
+    @Autowired
+    public TaskInboxService(TaskRepository taskRepository, InboxProperties properties) {
+        this(taskRepository, properties.maxCachedUsers(), properties.maxAge());
+    }
+
+    TaskInboxService(TaskRepository taskRepository, int maxCachedUsers, Duration maxAge) {
+        this.taskRepository = taskRepository;
+        this.maxAgeNanos = maxAge.toNanos();
+        this.inboxes = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, UserInbox> eldest) {
+                return size() > maxCachedUsers;
+            }
+        };
+    }
+
+    public TaskInboxPage getInbox(Long userId, String cursor, Integer size) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Entry after = cursor == null || cursor.isBlank() ? null : Entry.fromCursor(cursor);
+
+        UserInbox inbox = cachedOrLoad(userId);
+        UserInbox.Slice slice = inbox.slice(after, pageSize);
+
+        Map<Long, Task> found = taskRepository.findAllById(slice.taskIds()).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        List<Task> tasks = slice.taskIds().stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return new TaskInboxPage(tasks, slice.counts(), slice.total(), slice.nextCursor());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onTaskChanged(TaskChangedEvent event) {
+        for (Long assigneeId : assigneesOf(event)) {
+            UserInbox inbox = inboxes.get(assigneeId);
+            if (inbox != null) {
+                apply(assigneeId, inbox, event);
+            }
+            for (List<TaskChangedEvent> pending : loading.getOrDefault(assigneeId, List.of())) {
+                pending.add(event);
+            }
+        }
+    }
+
+    synchronized int cachedInboxes() {
+        return inboxes.size();
+    }
+
+    /**
+     * Returns the cached inbox or loads it. The query runs outside the lock; changes that
+     * arrive meanwhile are recorded and replayed on the loaded inbox, so none is lost.
+     */
+    private UserInbox cachedOrLoad(Long userId) {
+        List<TaskChangedEvent> pending = new ArrayList<>();
+        synchronized (this) {
+            UserInbox cached = inboxes.get(userId);
+            if (cached != null && System.nanoTime() - cached.loadedAtNanos() < maxAgeNanos) {
+                return cached;
+            }
+            if (cached != null) {
+                inboxes.remove(userId);
+            }
+            loading.computeIfAbsent(userId, id -> new ArrayList<>()).add(pending);
+        }
+        UserInbox loaded = null;
+        try {
+            loaded = load(userId);
+        } finally {
+            synchronized (this) {
+                List<List<TaskChangedEvent>> loads = loading.get(userId);
+                loads.remove(pending);
+                if (loads.isEmpty()) {
+                    loading.remove(userId);
+                }
+                if (loaded != null) {
+                    UserInbox cached = inboxes.get(userId);
+                    if (cached != null) {
+                        loaded = cached;
+                    } else {
+                        for (TaskChangedEvent event : pending) {
+                            apply(userId, loaded, event);
+                        }
+                        inboxes.put(userId, loaded);
+                    }
+                }
+            }
+        }
+        return loaded;
+    }
+
+    private UserInbox load(Long userId) {
+        UserInbox inbox = new UserInbox();
+        for (TaskInboxView view : taskRepository.findInboxByAssignedToId(userId)) {
+            inbox.put(new Entry(view.getId(), view.getStatus(), recency(view.getCreatedAt())));
+        }
+        return inbox;
+    }
+
+    // both operations are idempotent, so replaying a change the load already saw is harmless
+    private static void apply(Long userId, UserInbox inbox, TaskChangedEvent event) {
+        TaskSnapshot before = event.before();
+        TaskSnapshot after = event.after();
+        if (before != null && userId.equals(before.assigneeId())) {
+            inbox.remove(before.id());
+        }
+        if (after != null && userId.equals(after.assigneeId())) {
+            inbox.put(Entry.of(after));
+        }
+    }
+
+    private static Set<Long> assigneesOf(TaskChangedEvent event) {
+        Set<Long> assignees = new HashSet<>(2);
+        if (event.before() != null && event.before().assigneeId() != null) {
+            assignees.add(event.before().assigneeId());
+        }
+        if (event.after() != null && event.after().assigneeId() != null) {
+            assignees.add(event.after().assigneeId());
+        }
+        return assignees;
+    }
+
+    static int priority(TaskStatus status) {
+        return switch (status) {
+            case IN_PROGRESS -> 0;
+            case PENDING -> 1;
+            case COMPLETED -> 2;
+            case CANCELLED -> 3;
+        };
+    }
+
+    private static long recency(LocalDateTime createdAt) {
+        return createdAt == null ? 0L : createdAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    record Entry(long taskId, TaskStatus status, long recency) implements Comparable<Entry> {
+
+        static Entry of(TaskSnapshot task) {
+            return new Entry(task.id(), task.status(), TaskInboxService.recency(task.createdAt()));
+        }
+
+        static Entry fromCursor(String cursor) {
+            String[] parts = cursor.split("_");
+            try {
+                if (parts.length != 3) {
+                    throw new NumberFormatException();
+                }
+                int ordinal = Integer.parseInt(parts[0]);
+                TaskStatus[] statuses = TaskStatus.values();
+                if (ordinal < 0 || ordinal >= statuses.length) {
+                    throw new NumberFormatException();
+                }
+                return new Entry(Long.parseLong(parts[2]), statuses[ordinal], Long.parseLong(parts[1]));
+            } catch (NumberFormatException ex) {
+                throw new BadRequestException("Invalid inbox cursor: " + cursor);
+            }
+        }
+
+        String toCursor() {
+            return status.ordinal() + "_" + recency + "_" + taskId;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            int cmp = Integer.compare(priority(status), priority(other.status));
+            if (cmp != 0) {
+                return cmp;
+            }
+            cmp = Long.compare(other.recency, recency);
+            if (cmp != 0) {
+                return cmp;
+            }
+            return Long.compare(other.taskId, taskId);
+        }
+    }
+
+    static final class UserInbox {
+
+        private final long loadedAtNanos = System.nanoTime();
+        private final NavigableSet<Entry> ordered = new TreeSet<>();
+        private final Map<Long, Entry> byTaskId = new HashMap<>();
+        private final int[] counts = new int[TaskStatus.values().length];
+
+        long loadedAtNanos() {
+            return loadedAtNanos;
+        }
+
+        synchronized UserInbox put(Entry entry) {
+            remove(entry.taskId());
+            ordered.add(entry);
+            byTaskId.put(entry.taskId(), entry);
+            counts[entry.status().ordinal()]++;
+            return this;
+        }
+
+        synchronized UserInbox remove(Long taskId) {
+            Entry existing = byTaskId.remove(taskId);
+            if (existing != null) {
+                ordered.remove(existing);
+                counts[existing.status().ordinal()]--;
+            }
+            return this;
+        }
+
+        synchronized Slice slice(Entry after, int size) {
+            Iterator<Entry> it = (after == null ? ordered : ordered.tailSet(after, false)).iterator();
+            List<Long> ids = new ArrayList<>(size);
+            Entry last = null;
+            while (ids.size() < size && it.hasNext()) {
+                last = it.next();
+                ids.add(last.taskId());
+            }
+            String nextCursor = last != null && it.hasNext() ? last.toCursor() : null;
+
+            Map<TaskStatus, Integer> countsByStatus = new EnumMap<>(TaskStatus.class);
+            for (TaskStatus status : TaskStatus.values()) {
+                countsByStatus.put(status, counts[status.ordinal()]);
+            }
+            return new Slice(ids, countsByStatus, byTaskId.size(), nextCursor);
+        }
+
+        record Slice(List<Long> taskIds, Map<TaskStatus, Integer> counts, int total, String nextCursor) {
+        }
+    }
+}
@@ -1,18 +1,38 @@
 package com.taskflow.service;
 
+import com.taskflow.audit.AuditRecord;
+import com.taskflow.dto.TaskInboxPage;
+import com.taskflow.event.TaskChangedEvent;
+import com.taskflow.event.TaskSnapshot;
 import com.taskflow.exception.ResourceNotFoundException;
 import com.taskflow.model.Task;
+import com.taskflow.model.TaskStatus;
+import com.taskflow.repository.FieldSelection;
+import com.taskflow.repository.TaskFieldQuery;
 import com.taskflow.repository.TaskRepository;
+import com.taskflow.service.audit.TaskAuditService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 @Service
 public class TaskService {
     private final TaskRepository taskRepository;
+    private final TaskInboxService taskInboxService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskAuditService taskAuditService;
 
-    public TaskService(TaskRepository taskRepository) {
+    public TaskService(TaskRepository taskRepository, TaskInboxService taskInboxService,
+                       ApplicationEventPublisher eventPublisher, TaskAuditService taskAuditService) {
         this.taskRepository = taskRepository;
+        this.taskInboxService = taskInboxService;
+        this.eventPublisher = eventPublisher;
+        this.taskAuditService = taskAuditService;
     }
 
     public List<Task> getAllTasks() {
@@ -23,31 +43,90 @@ public class TaskService {
         return taskRepository.findById(id).orElseThrow(() -> new RuntimeException("Task not found with id: " + id));
     }
 
+    public List<Map<String, Object>> getAllTasks(FieldSelection fields) {
+        return taskRepository.findFields(TaskFieldQuery.all(fields));
+    }
+
+    public Map<String, Object> getTaskById(Long id, FieldSelection fields) {
+        return taskRepository.findFields(TaskFieldQuery.byId(fields, id)).stream().findFirst()
+                .orElseThrow(() -> new RuntimeException("Task not found with id: " + id));
+    }
+
     public Task createTask(Task task) {
-        return taskRepository.save(task);
+        task.setOverdue(false);
+        trackCompletion(task, null);
+        Task saved = taskRepository.save(task);
+        eventPublisher.publishEvent(TaskChangedEvent.created(TaskSnapshot.of(saved)));
+        return saved;
     }
 
+    // the save and the overdue reset commit together; listeners see the change after commit
+    @Transactional
     public Task updateTask(Long id, Task taskDetails) {
         Task task = getTaskById(id);
+        TaskSnapshot before = TaskSnapshot.of(task);
 
         task.setTitle(taskDetails.getTitle());
         task.setDescription(taskDetails.getDescription());
         task.setStatus(taskDetails.getStatus());
+        task.setAssignedTo(taskDetails.getAssignedTo());
+        boolean dueAtChanged = !Objects.equals(task.getDueAt(), taskDetails.getDueAt());
+        if (dueAtChanged) {
+            task.setDueAt(taskDetails.getDueAt());
+            task.setOverdue(false);
+        }
+        trackCompletion(task, before.status());
 
-        return taskRepository.save(task);
+        Task saved = taskRepository.save(task);
+        if (dueAtChanged) {
+            taskRepository.clearOverdue(saved.getId());
+        }
+        eventPublisher.publishEvent(TaskChangedEvent.updated(before, TaskSnapshot.of(saved)));
+        return saved;
     }
 
     public void deleteTask(Long id) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task", id));
         taskRepository.deleteById(id);
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(TaskSnapshot.of(task)));
+    }
+
+    // the history outlives the task, so only an id that never had one is unknown
+    public List<AuditRecord> getTaskHistory(Long id) {
+        List<AuditRecord> history = taskAuditService.history(id);
+        if (history.isEmpty() && !taskRepository.existsById(id)) {
+            throw new ResourceNotFoundException("Task", id);
+        }
+        return history;
     }
 
     public List<Task> getTasksByUserId(Long userId) {
         return taskRepository.findByAssignedToId(userId);
     }
 
+    public List<Map<String, Object>> getTasksByUserId(Long userId, FieldSelection fields) {
+        return taskRepository.findFields(TaskFieldQuery.byAssignee(fields, userId));
+    }
+
+    public TaskInboxPage getTaskInbox(Long userId, String cursor, Integer size) {
+        return taskInboxService.getInbox(userId, cursor, size);
+    }
+
     public List<Task> searchTasksByTitle(String keyword) {
         return taskRepository.findByTitleContainingIgnoreCase(keyword);
     }
+
+    public List<Map<String, Object>> searchTasksByTitle(String keyword, FieldSelection fields) {
+        return taskRepository.findFields(TaskFieldQuery.titleContaining(fields, keyword));
+    }
+
+    // completedAt is stamped when a task enters COMPLETED and cleared if it is reopened
+    static void trackCompletion(Task task, TaskStatus previousStatus) {
+        if (task.getStatus() != TaskStatus.COMPLETED) {
+            task.setCompletedAt(null);
+        } else if (previousStatus != TaskStatus.COMPLETED || task.getCompletedAt() == null) {
+            task.setCompletedAt(LocalDateTime.now());
+        }
+    }
 }
@@ -2,9 +2,11 @@ package com.taskflow.service;
 
 import com.taskflow.exception.ResourceNotFoundException;
 import com.taskflow.model.User;
+import com.taskflow.repository.FieldSelection;
 import com.taskflow.repository.UserRepository;
 import org.springframework.stereotype.Service;
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class UserService {
@@ -23,6 +25,15 @@ public class UserService {
                 .orElseThrow(() -> new ResourceNotFoundException("User", id));
     }
 
+    public List<Map<String, Object>> getAllUsers(FieldSelection fields) {
+        return userRepository.findFields(fields, null);
+    }
+
+    public Map<String, Object> getUserById(Long id, FieldSelection fields) {
+        return userRepository.findFields(fields, List.of(id)).stream().findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("User", id));
+    }
+
     public User createUser(User user) {
         return userRepository.save(user);
     }
@@ -0,0 +1,297 @@
+package com.taskflow.service.analytics;
+
+import com.taskflow.dto.CompletionTimeDistribution;
+import com.taskflow.dto.DailyTaskCounts;
+import com.taskflow.dto.UserTaskCounts;
+import com.taskflow.event.TaskChangedEvent;
+import com.taskflow.event.TaskSnapshot;
+import com.taskflow.exception.BadRequestException;
+import com.taskflow.model.TaskStatus;
+import com.taskflow.repository.TaskAnalyticsView;
+import com.taskflow.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.*;
+
+import static com.taskflow.service.analytics.TaskColumnStore.NONE;
+
+/**
+ * Reporting over a {@link TaskColumnStore} snapshot of all tasks. The snapshot is loaded
+ * once at startup and then kept current from {@link TaskChangedEvent}s, so reports are
+ * parallel scans over primitive arrays and never query the database.
+ */
+@Service
+public class TaskAnalyticsService {
+
+    static final int MAX_DAYS = 366;
+
+    private static final Logger log = LoggerFactory.getLogger(TaskAnalyticsService.class);
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+    private static final long SECONDS_PER_DAY = 86_400;
+    private static final long[] BUCKET_LIMITS = {3_600, SECONDS_PER_DAY, 7 * SECONDS_PER_DAY, 30 * SECONDS_PER_DAY};
+    private static final String[] BUCKET_NAMES = {"<1h", "1h-1d", "1d-7d", "7d-30d", ">=30d"};
+
+    private final TaskRepository taskRepository;
+    private final TaskColumnStore store;
+
+    // changes seen while the snapshot is being loaded; replayed on top of it afterwards
+    private List<TaskChangedEvent> pending;
+    private boolean loaded;
+
+    @Autowired
+    public TaskAnalyticsService(TaskRepository taskRepository) {
+        this(taskRepository, new TaskColumnStore());
+    }
+
+    TaskAnalyticsService(TaskRepository taskRepository, TaskColumnStore store) {
+        this.taskRepository = taskRepository;
+        this.store = store;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        synchronized (this) {
+            if (pending != null) {
+                // another thread is loading; changes seen until it finishes are replayed
+                return;
+            }
+            pending = new ArrayList<>();
+        }
+        readSnapshot();
+    }
+
+    /**
+     * Reads the snapshot outside the monitor, so that changes keep being recorded in
+     * {@code pending} meanwhile. The caller must have set {@code pending}.
+     */
+    private void readSnapshot() {
+        long start = System.nanoTime();
+        List<TaskAnalyticsView> views = null;
+        try {
+            views = taskRepository.findAllAnalyticsViews();
+        } finally {
+            synchronized (this) {
+                if (views != null) {
+                    store.clear();
+                    for (TaskAnalyticsView view : views) {
+                        store.put(view.getId(), view.getStatus(), view.getAssigneeId(),
+                                view.getCreatedAt(), view.getCompletedAt());
+                    }
+                    pending.forEach(this::apply);
+                    loaded = true;
+                }
+                pending = null;
+                notifyAll();
+            }
+        }
+        log.info("Loaded analytics snapshot of {} tasks in {} ms", views.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onTaskChanged(TaskChangedEvent event) {
+        if (pending != null) {
+            pending.add(event);
+        } else if (loaded) {
+            apply(event);
+        }
+    }
+
+    public Map<TaskStatus, Long> countByStatus() {
+        ensureLoaded();
+        long[] counts = store.scan(() -> new long[STATUSES.length], (acc, columns, from, to) -> {
+            byte[] statuses = columns.statuses();
+            for (int row = from; row < to; row++) {
+                acc[statuses[row]]++;
+            }
+        }, TaskAnalyticsService::sum);
+        return toStatusMap(counts);
+    }
+
+    public List<DailyTaskCounts> countPerDay(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new BadRequestException("'from' must not be after 'to'");
+        }
+        int days = (int) (to.toEpochDay() - from.toEpochDay() + 1);
+        if (days > MAX_DAYS) {
+            throw new BadRequestException("Date range cannot exceed " + MAX_DAYS + " days");
+        }
+        ensureLoaded();
+        long firstDay = from.toEpochDay();
+        // created counts in [0, days), completed counts in [days, 2 * days)
+        long[] counts = store.scan(() -> new long[2 * days], (acc, columns, start, end) -> {
+            long[] createdAt = columns.createdAt();
+            long[] completedAt = columns.completedAt();
+            for (int row = start; row < end; row++) {
+                long created = dayIndex(createdAt[row], firstDay, days);
+                if (created >= 0) {
+                    acc[(int) created]++;
+                }
+                long completed = dayIndex(completedAt[row], firstDay, days);
+                if (completed >= 0) {
+                    acc[days + (int) completed]++;
+                }
+            }
+        }, TaskAnalyticsService::sum);
+
+        List<DailyTaskCounts> result = new ArrayList<>(days);
+        for (int day = 0; day < days; day++) {
+            result.add(new DailyTaskCounts(from.plusDays(day), counts[day], counts[days + day]));
+        }
+        return result;
+    }
+
+    public List<UserTaskCounts> countPerUser() {
+        ensureLoaded();
+        Map<Long, long[]> counts = store.scan(HashMap::new, (acc, columns, from, to) -> {
+            byte[] statuses = columns.statuses();
+            long[] assignees = columns.assignees();
+            for (int row = from; row < to; row++) {
+                if (assignees[row] != NONE) {
+                    acc.computeIfAbsent(assignees[row], id -> new long[STATUSES.length])[statuses[row]]++;
+                }
+            }
+        }, (left, right) -> {
+            right.forEach((userId, byStatus) -> left.merge(userId, byStatus, TaskAnalyticsService::sum));
+            return left;
+        });
+
+        return counts.entrySet().stream()
+                .map(entry -> new UserTaskCounts(entry.getKey(), Arrays.stream(entry.getValue()).sum(),
+                        toStatusMap(entry.getValue())))
+                .sorted(Comparator.comparingLong(UserTaskCounts::total).reversed()
+                        .thenComparing(UserTaskCounts::userId))
+                .toList();
+    }
+
+    public CompletionTimeDistribution completionTimes() {
+        ensureLoaded();
+        Durations durations = store.scan(Durations::new, (acc, columns, from, to) -> {
+            long[] createdAt = columns.createdAt();
+            long[] completedAt = columns.completedAt();
+            for (int row = from; row < to; row++) {
+                if (createdAt[row] != NONE && completedAt[row] != NONE) {
+                    acc.add(Math.max(0, completedAt[row] - createdAt[row]));
+                }
+            }
+        }, Durations::addAll);
+
+        long[] sorted = durations.sorted();
+        Map<String, Long> buckets = new LinkedHashMap<>();
+        for (String name : BUCKET_NAMES) {
+            buckets.put(name, 0L);
+        }
+        long total = 0;
+        for (long seconds : sorted) {
+            total += seconds;
+            buckets.merge(BUCKET_NAMES[bucket(seconds)], 1L, Long::sum);
+        }
+        if (sorted.length == 0) {
+            return new CompletionTimeDistribution(0, 0, 0, 0, 0, 0, buckets);
+        }
+        return new CompletionTimeDistribution(sorted.length, total / sorted.length,
+                percentile(sorted, 50), percentile(sorted, 90), percentile(sorted, 99),
+                sorted[sorted.length - 1], buckets);
+    }
+
+    // waits for a load in progress, or retries a failed one without holding the monitor
+    private void ensureLoaded() {
+        synchronized (this) {
+            while (!loaded && pending != null) {
+                try {
+                    wait();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while loading the analytics snapshot", ex);
+                }
+            }
+            if (loaded) {
+                return;
+            }
+            pending = new ArrayList<>();
+        }
+        readSnapshot();
+    }
+
+    private void apply(TaskChangedEvent event) {
+        TaskSnapshot before = event.before();
+        TaskSnapshot after = event.after();
+        // a task moved to another shard is updated under a new id; its old row must go too
+        if (before != null && (after == null || !before.id().equals(after.id()))) {
+            store.remove(before.id());
+        }
+        if (after != null) {
+            store.put(after.id(), after.status(), after.assigneeId(), after.createdAt(), after.completedAt());
+        }
+    }
+
+    private static long dayIndex(long epochSecond, long firstDay, int days) {
+        if (epochSecond == NONE) {
+            return -1;
+        }
+        long index = Math.floorDiv(epochSecond, SECONDS_PER_DAY) - firstDay;
+        return index < days ? index : -1;
+    }
+
+    private static int bucket(long seconds) {
+        for (int i = 0; i < BUCKET_LIMITS.length; i++) {
+            if (seconds < BUCKET_LIMITS[i]) {
+                return i;
+            }
+        }
+        return BUCKET_LIMITS.length;
+    }
+
+    // nearest-rank percentile
+    private static long percentile(long[] sorted, int percent) {
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static long[] sum(long[] left, long[] right) {
+        for (int i = 0; i < left.length; i++) {
+            left[i] += right[i];
+        }
+        return left;
+    }
+
+    private static Map<TaskStatus, Long> toStatusMap(long[] counts) {
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : STATUSES) {
+            byStatus.put(status, counts[status.ordinal()]);
+        }
+        return byStatus;
+    }
+
+    private static final class Durations {
+
+        private long[] values = new long[64];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        Durations addAll(Durations other) {
+            values = Arrays.copyOf(values, Math.max(values.length, size + other.size));
+            System.arraycopy(other.values, 0, values, size, other.size);
+            size += other.size;
+            return this;
+        }
+
+        long[] sorted() {
+            long[] result = Arrays.copyOf(values, size);
+            Arrays.sort(result);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.taskflow.service.analytics;
+
+import com.taskflow.model.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Column-oriented copy of the task fields used for reporting. Every column is a primitive
+ * array indexed by row and a task's row is found through {@code rowById}. Removing a task
+ * moves the last row into its slot, so the columns stay dense and a scan never meets holes.
+ *
+ * <p>Writers take the write lock; {@link #scan} holds the read lock while the row range is
+ * split across the common fork-join pool.
+ */
+class TaskColumnStore {
+
+    /** Marker for a missing assignee or timestamp. */
+    static final long NONE = Long.MIN_VALUE;
+
+    static final int DEFAULT_MIN_ROWS_PER_CHUNK = 16_384;
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final int minRowsPerChunk;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> rowById = new HashMap<>();
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private byte[] statuses = new byte[INITIAL_CAPACITY];
+    private long[] assignees = new long[INITIAL_CAPACITY];
+    private long[] createdAt = new long[INITIAL_CAPACITY];
+    private long[] completedAt = new long[INITIAL_CAPACITY];
+    private int size;
+
+    TaskColumnStore() {
+        this(DEFAULT_MIN_ROWS_PER_CHUNK);
+    }
+
+    TaskColumnStore(int minRowsPerChunk) {
+        this.minRowsPerChunk = Math.max(1, minRowsPerChunk);
+    }
+
+    /**
+     * Read-only view of the columns handed to scanners. Only rows below the bound given to
+     * {@link RangeScanner#scan} are valid.
+     */
+    record Columns(byte[] statuses, long[] assignees, long[] createdAt, long[] completedAt) {
+    }
+
+    @FunctionalInterface
+    interface RangeScanner<A> {
+        void scan(A accumulator, Columns columns, int fromRow, int toRow);
+    }
+
+    void put(long id, TaskStatus status, Long assigneeId, LocalDateTime created, LocalDateTime completed) {
+        lock.writeLock().lock();
+        try {
+            Integer row = rowById.get(id);
+            if (row == null) {
+                ensureCapacity(size + 1);
+                row = size++;
+                rowById.put(id, row);
+            }
+            write(row, id, status, assigneeId, created, completed);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Integer row = rowById.remove(id);
+            if (row == null) {
+                return;
+            }
+            int last = --size;
+            if (row != last) {
+                ids[row] = ids[last];
+                statuses[row] = statuses[last];
+                assignees[row] = assignees[last];
+                createdAt[row] = createdAt[last];
+                completedAt[row] = completedAt[last];
+                rowById.put(ids[row], row);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void clear() {
+        lock.writeLock().lock();
+        try {
+            rowById.clear();
+            size = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Splits the rows into chunks of at least {@code minRowsPerChunk} rows, scans each chunk
+     * into its own accumulator in parallel and combines the results.
+     */
+    <A> A scan(Supplier<A> accumulator, RangeScanner<A> scanner, BinaryOperator<A> combiner) {
+        lock.readLock().lock();
+        try {
+            Columns columns = new Columns(statuses, assignees, createdAt, completedAt);
+            int rows = size;
+            int chunks = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors() * 4,
+                    rows / minRowsPerChunk));
+            return IntStream.range(0, chunks)
+                    .parallel()
+                    .mapToObj(chunk -> {
+                        A partial = accumulator.get();
+                        scanner.scan(partial, columns,
+                                (int) ((long) rows * chunk / chunks), (int) ((long) rows * (chunk + 1) / chunks));
+                        return partial;
+                    })
+                    .reduce(combiner)
+                    .orElseGet(accumulator);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static long epochSecond(LocalDateTime time) {
+        return time == null ? NONE : time.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private void write(int row, long id, TaskStatus status, Long assigneeId, LocalDateTime created,
+                       LocalDateTime completed) {
+        ids[row] = id;
+        statuses[row] = (byte) status.ordinal();
+        assignees[row] = assigneeId == null ? NONE : assigneeId;
+        createdAt[row] = epochSecond(created);
+        completedAt[row] = epochSecond(completed);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= ids.length) {
+            return;
+        }
+        int grown = Math.max(capacity, ids.length * 2);
+        ids = Arrays.copyOf(ids, grown);
+        statuses = Arrays.copyOf(statuses, grown);
+        assignees = Arrays.copyOf(assignees, grown);
+        createdAt = Arrays.copyOf(createdAt, grown);
+        completedAt = Arrays.copyOf(completedAt, grown);
+    }
+}
@@ -0,0 +1,207 @@
+package com.taskflow.service.audit;
+
+import com.taskflow.audit.AuditLog;
+import com.taskflow.audit.AuditRecord;
+import com.taskflow.audit.FsyncPolicy;
+import com.taskflow.config.AuditProperties;
+import com.taskflow.event.TaskChangedEvent;
+import com.taskflow.event.TaskSnapshot;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Records every task change in the {@link AuditLog} as the list of fields it touched, and
+ * serves a task's history from the log's per-task index. Depending on the fsync policy the
+ * log is flushed periodically, and a compaction drops the history of tasks deleted longer
+ * ago than the configured retention.
+ *
+ * <p>A task moved to another shard continues under a new id. The move is recorded twice,
+ * as a change of the {@code id} field: a deletion of the old id and the first update of the
+ * new one. The history of the new id starts with that of the old one, and the old id's
+ * history is only compacted once the task is deleted for good.
+ */
+@Service
+public class TaskAuditService {
+
+    static final String SYSTEM_ACTOR = "system";
+    static final String ID_FIELD = "id";
+
+    private static final Logger log = LoggerFactory.getLogger(TaskAuditService.class);
+    private static final Map<String, Function<TaskSnapshot, Object>> FIELDS = new LinkedHashMap<>();
+
+    static {
+        FIELDS.put("title", TaskSnapshot::title);
+        FIELDS.put("description", TaskSnapshot::description);
+        FIELDS.put("status", TaskSnapshot::status);
+        FIELDS.put("assigneeId", TaskSnapshot::assigneeId);
+        FIELDS.put("dueAt", TaskSnapshot::dueAt);
+    }
+
+    private final AuditLog auditLog;
+    private final AuditProperties properties;
+
+    private ScheduledExecutorService executor;
+
+    public TaskAuditService(AuditLog auditLog, AuditProperties properties) {
+        this.auditLog = auditLog;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "audit-log");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (properties.fsyncPolicy() == FsyncPolicy.INTERVAL) {
+            long interval = properties.fsyncInterval().toMillis();
+            executor.scheduleAtFixedRate(() -> safely("flush", auditLog::flush),
+                    interval, interval, TimeUnit.MILLISECONDS);
+        }
+        long compaction = properties.compactionInterval().toMillis();
+        executor.scheduleWithFixedDelay(() -> safely("compaction", () -> compact(Instant.now())),
+                compaction, compaction, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        toRecords(event, currentActor(), Instant.now()).forEach(auditLog::append);
+    }
+
+    public List<AuditRecord> history(long taskId) {
+        List<AuditRecord> records = auditLog.history(taskId);
+        Long previousId = movedFrom(records);
+        if (previousId == null) {
+            return records;
+        }
+        // the old id's history ends with the record of the move, repeated in this one
+        List<AuditRecord> combined = new ArrayList<>(history(previousId));
+        if (!combined.isEmpty() && isMove(combined.get(combined.size() - 1))) {
+            combined.remove(combined.size() - 1);
+        }
+        combined.addAll(records);
+        return combined;
+    }
+
+    /**
+     * Removes the history of every task deleted before {@code now - deletedTaskRetention}.
+     */
+    int compact(Instant now) {
+        Set<Long> expired = new HashSet<>();
+        for (Long taskId : auditLog.tasksDeletedBefore(now.minus(properties.deletedTaskRetention()))) {
+            List<AuditRecord> records = auditLog.history(taskId);
+            if (isMove(records.get(records.size() - 1))) {
+                // moved, not deleted: its history is part of the task's new id
+                continue;
+            }
+            for (Long id = taskId; id != null; id = movedFrom(auditLog.history(id))) {
+                expired.add(id);
+            }
+        }
+        if (expired.isEmpty()) {
+            return 0;
+        }
+        try {
+            return auditLog.compact(record -> !expired.contains(record.taskId()));
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Audit log compaction failed", ex);
+        }
+    }
+
+    /**
+     * The records of a change: one, or two when the task moved to a new id.
+     */
+    static List<AuditRecord> toRecords(TaskChangedEvent event, String actor, Instant timestamp) {
+        TaskSnapshot before = event.before();
+        TaskSnapshot after = event.after();
+        AuditRecord record = toRecord(event, actor, timestamp);
+        if (before == null || after == null || before.id().equals(after.id())) {
+            return List.of(record);
+        }
+        AuditRecord.FieldChange move = new AuditRecord.FieldChange(ID_FIELD, before.id().toString(),
+                after.id().toString());
+        List<AuditRecord.FieldChange> changes = new ArrayList<>();
+        changes.add(move);
+        changes.addAll(record.changes());
+        return List.of(
+                new AuditRecord(before.id(), timestamp, AuditRecord.ChangeType.DELETED, actor, List.of(move)),
+                new AuditRecord(after.id(), timestamp, AuditRecord.ChangeType.UPDATED, actor, changes));
+    }
+
+    static AuditRecord toRecord(TaskChangedEvent event, String actor, Instant timestamp) {
+        TaskSnapshot before = event.before();
+        TaskSnapshot after = event.after();
+        AuditRecord.ChangeType type = before == null ? AuditRecord.ChangeType.CREATED
+                : after == null ? AuditRecord.ChangeType.DELETED
+                : AuditRecord.ChangeType.UPDATED;
+
+        List<AuditRecord.FieldChange> changes = new ArrayList<>();
+        FIELDS.forEach((field, getter) -> {
+            Object oldValue = before == null ? null : getter.apply(before);
+            Object newValue = after == null ? null : getter.apply(after);
+            if (!Objects.equals(oldValue, newValue)) {
+                changes.add(new AuditRecord.FieldChange(field, stringOf(oldValue), stringOf(newValue)));
+            }
+        });
+        return new AuditRecord(event.taskId(), timestamp, type, actor, changes);
+    }
+
+    // the id a task had before it moved, read from the first record under its new id
+    private static Long movedFrom(List<AuditRecord> records) {
+        if (records.isEmpty() || records.get(0).type() != AuditRecord.ChangeType.UPDATED || !isMove(records.get(0))) {
+            return null;
+        }
+        return Long.valueOf(records.get(0).changes().get(0).oldValue());
+    }
+
+    private static boolean isMove(AuditRecord record) {
+        return !record.changes().isEmpty() && record.changes().get(0).field().equals(ID_FIELD);
+    }
+
+    // there is no authentication yet, so callers identify themselves with a header
+    private String currentActor() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            String actor = attributes.getRequest().getHeader(properties.actorHeader());
+            if (actor != null && !actor.isBlank()) {
+                return actor;
+            }
+        }
+        return SYSTEM_ACTOR;
+    }
+
+    private static String stringOf(Object value) {
+        return value == null ? null : value.toString();
+    }
+
+    private static void safely(String action, Runnable work) {
+        try {
+            work.run();
+        } catch (RuntimeException ex) {
+            log.warn("Audit log {} failed", action, ex);
+        }
+    }
+}
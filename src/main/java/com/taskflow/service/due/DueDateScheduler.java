@@ -0,0 +1,203 @@
+package com.taskflow.service.due;
+
+import com.taskflow.config.DueDateProperties;
+import com.taskflow.event.TaskChangedEvent;
+import com.taskflow.event.TaskOverdueEvent;
+import com.taskflow.event.TaskSnapshot;
+import com.taskflow.model.TaskStatus;
+import com.taskflow.repository.TaskDueView;
+import com.taskflow.repository.TaskRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Detects overdue tasks without scanning the task table. Open tasks due within the
+ * configured horizon are held in a {@link TimingWheel}, loaded at startup through the
+ * {@code due_at} index and kept current from {@link TaskChangedEvent}s. Deadlines further
+ * out stay in the database and are pulled in by a rolling refill as the horizon moves.
+ *
+ * <p>When a deadline fires, the task is marked overdue with a conditional update, so a
+ * stale wheel entry can never flag a task that was completed or rescheduled meanwhile,
+ * and a {@link TaskOverdueEvent} is published.
+ */
+@Service
+public class DueDateScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(DueDateScheduler.class);
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final TaskRepository taskRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DueDateProperties properties;
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    private TimingWheel wheel;
+    // upper bound of the deadlines the wheel is responsible for
+    private LocalDateTime loadedUntil;
+    // changes seen while a refill query runs; replayed on top of its result
+    private List<TaskChangedEvent> pending;
+    private ScheduledExecutorService executor;
+
+    public DueDateScheduler(TaskRepository taskRepository, ApplicationEventPublisher eventPublisher,
+                            DueDateProperties properties) {
+        this.taskRepository = taskRepository;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        load(System.currentTimeMillis());
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "due-date-wheel");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long tick = properties.tick().toMillis();
+        executor.scheduleAtFixedRate(() -> safely("advance", () -> tick(System.currentTimeMillis())),
+                tick, tick, TimeUnit.MILLISECONDS);
+        long refill = properties.refillInterval().toMillis();
+        executor.scheduleWithFixedDelay(() -> safely("refill", () -> refill(System.currentTimeMillis())),
+                refill, refill, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Builds the wheel and loads every open task due up to the horizon, including those
+     * that fell due while the application was down.
+     */
+    void load(long nowMillis) {
+        synchronized (this) {
+            wheel = new TimingWheel(properties.tick().toMillis(), properties.wheelSize(), properties.levels(), nowMillis);
+            loadedUntil = BEGINNING;
+        }
+        refill(nowMillis);
+        log.info("Due date wheel holds {} tasks due until {}", scheduledCount(), loadedUntil);
+    }
+
+    /**
+     * Extends the wheel's window to {@code now + horizon} by loading the tasks due in the
+     * newly covered range.
+     */
+    void refill(long nowMillis) {
+        LocalDateTime from;
+        LocalDateTime to;
+        synchronized (this) {
+            long horizon = Math.min(properties.horizon().toMillis(), wheel.capacityMillis());
+            from = loadedUntil;
+            to = toLocalDateTime(nowMillis + horizon);
+            if (!to.isAfter(from)) {
+                return;
+            }
+            loadedUntil = to;
+            pending = new ArrayList<>();
+        }
+        List<TaskDueView> due = null;
+        try {
+            due = taskRepository.findOpenTasksDueBetween(from, to);
+        } finally {
+            synchronized (this) {
+                if (due != null) {
+                    for (TaskDueView view : due) {
+                        wheel.schedule(view.getId(), toMillis(view.getDueAt()));
+                    }
+                    pending.forEach(this::apply);
+                } else {
+                    loadedUntil = from;
+                }
+                pending = null;
+            }
+        }
+    }
+
+    /**
+     * Advances the wheel and marks every task whose deadline has been reached as overdue.
+     */
+    void tick(long nowMillis) {
+        List<Long> expired = new ArrayList<>();
+        synchronized (this) {
+            wheel.advanceTo(nowMillis, expired::add);
+        }
+        if (expired.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = toLocalDateTime(nowMillis);
+        for (Long taskId : expired) {
+            if (taskRepository.markOverdue(taskId, now) > 0) {
+                log.info("Task {} is overdue", taskId);
+                eventPublisher.publishEvent(new TaskOverdueEvent(taskId, now));
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onTaskChanged(TaskChangedEvent event) {
+        if (pending != null) {
+            pending.add(event);
+        } else if (wheel != null) {
+            apply(event);
+        }
+    }
+
+    synchronized int scheduledCount() {
+        return wheel == null ? 0 : wheel.size();
+    }
+
+    synchronized boolean isScheduled(long taskId) {
+        return wheel != null && wheel.contains(taskId);
+    }
+
+    private void apply(TaskChangedEvent event) {
+        TaskSnapshot before = event.before();
+        TaskSnapshot after = event.after();
+        // a task moved to another shard is updated under a new id; its old id must not fire
+        if (before != null && after != null && !before.id().equals(after.id())) {
+            wheel.cancel(before.id());
+        }
+        if (after == null || after.dueAt() == null || !isOpen(after.status()) || after.dueAt().isAfter(loadedUntil)) {
+            wheel.cancel(event.taskId());
+        } else if (!wheel.schedule(after.id(), toMillis(after.dueAt()))) {
+            log.debug("Task {} is due beyond the wheel, leaving it to the refill", after.id());
+        }
+    }
+
+    private static boolean isOpen(TaskStatus status) {
+        return status == TaskStatus.PENDING || status == TaskStatus.IN_PROGRESS;
+    }
+
+    private long toMillis(LocalDateTime time) {
+        return time.atZone(zone).toInstant().toEpochMilli();
+    }
+
+    private LocalDateTime toLocalDateTime(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), zone);
+    }
+
+    private static void safely(String action, Runnable work) {
+        try {
+            work.run();
+        } catch (RuntimeException ex) {
+            log.warn("Due date {} failed", action, ex);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.taskflow.service.due;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongConsumer;
+
+/**
+ * Hierarchical timing wheel of task ids. Level 0 has one slot per tick, and each slot of
+ * level {@code n} spans {@code wheelSize} slots of level {@code n - 1}. A deadline is put on
+ * the lowest level whose window still reaches it. When time enters a higher-level slot,
+ * its entries are cascaded down, so each one moves at most {@code levels} times before it
+ * fires. Scheduling, cancelling and firing are O(1) per task. Slots are intrusive doubly
+ * linked lists, and {@code entries} finds a task's node for cancellation.
+ *
+ * <p>Deadlines beyond the top level's window are rejected; the caller keeps them elsewhere
+ * and schedules them again once they come within {@link #capacityMillis()}. Not thread-safe.
+ */
+class TimingWheel {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final long[] slotTicks;
+    private final Entry[][] slots;
+    private final Map<Long, Entry> entries = new HashMap<>();
+
+    private long currentTick;
+
+    TimingWheel(long tickMillis, int wheelSize, int levels, long startMillis) {
+        if (tickMillis <= 0 || wheelSize < 2 || levels < 1) {
+            throw new IllegalArgumentException("Invalid timing wheel shape");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.slotTicks = new long[levels];
+        this.slots = new Entry[levels][wheelSize];
+        long span = 1;
+        for (int level = 0; level < levels; level++) {
+            slotTicks[level] = span;
+            span = Math.multiplyExact(span, wheelSize);
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * How far ahead a deadline is always accepted: the top level spans
+     * {@code wheelSize - 1} full slots beyond the current one.
+     */
+    long capacityMillis() {
+        return (wheelSize - 1) * slotTicks[slotTicks.length - 1] * tickMillis;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    boolean contains(long taskId) {
+        return entries.containsKey(taskId);
+    }
+
+    /**
+     * Schedules or reschedules a task. Deadlines that already passed fire on the next tick.
+     *
+     * @return false if the deadline is beyond the wheel, in which case nothing is scheduled
+     */
+    boolean schedule(long taskId, long dueMillis) {
+        cancel(taskId);
+        Entry entry = new Entry(taskId, Math.max(currentTick + 1, Math.floorDiv(dueMillis, tickMillis)));
+        if (!place(entry)) {
+            return false;
+        }
+        entries.put(taskId, entry);
+        return true;
+    }
+
+    boolean cancel(long taskId) {
+        Entry entry = entries.remove(taskId);
+        if (entry == null) {
+            return false;
+        }
+        unlink(entry);
+        return true;
+    }
+
+    /**
+     * Advances the wheel to {@code nowMillis}, handing every task whose deadline has been
+     * reached to {@code expired}.
+     */
+    void advanceTo(long nowMillis, LongConsumer expired) {
+        long target = nowMillis / tickMillis;
+        while (currentTick < target) {
+            currentTick++;
+            for (int level = slotTicks.length - 1; level > 0; level--) {
+                if (currentTick % slotTicks[level] == 0) {
+                    cascade(level);
+                }
+            }
+            Entry entry = takeSlot(0, (int) (currentTick % wheelSize));
+            while (entry != null) {
+                Entry next = entry.next;
+                entry.next = null;
+                entries.remove(entry.taskId);
+                expired.accept(entry.taskId);
+                entry = next;
+            }
+        }
+    }
+
+    private void cascade(int level) {
+        Entry entry = takeSlot(level, (int) ((currentTick / slotTicks[level]) % wheelSize));
+        while (entry != null) {
+            Entry next = entry.next;
+            entry.prev = null;
+            entry.next = null;
+            place(entry);
+            entry = next;
+        }
+    }
+
+    private boolean place(Entry entry) {
+        for (int level = 0; level < slotTicks.length; level++) {
+            long slot = entry.tick / slotTicks[level];
+            if (slot - currentTick / slotTicks[level] < wheelSize) {
+                link(entry, level, (int) (slot % wheelSize));
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void link(Entry entry, int level, int slot) {
+        Entry head = slots[level][slot];
+        entry.level = level;
+        entry.slot = slot;
+        entry.prev = null;
+        entry.next = head;
+        if (head != null) {
+            head.prev = entry;
+        }
+        slots[level][slot] = entry;
+    }
+
+    private void unlink(Entry entry) {
+        if (entry.prev != null) {
+            entry.prev.next = entry.next;
+        } else {
+            slots[entry.level][entry.slot] = entry.next;
+        }
+        if (entry.next != null) {
+            entry.next.prev = entry.prev;
+        }
+        entry.prev = null;
+        entry.next = null;
+    }
+
+    private Entry takeSlot(int level, int slot) {
+        Entry head = slots[level][slot];
+        slots[level][slot] = null;
+        return head;
+    }
+
+    private static final class Entry {
+
+        final long taskId;
+        final long tick;
+        int level;
+        int slot;
+        Entry prev;
+        Entry next;
+
+        Entry(long taskId, long tick) {
+            this.taskId = taskId;
+            this.tick = tick;
+        }
+    }
+}
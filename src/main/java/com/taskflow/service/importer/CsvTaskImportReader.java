@@ -0,0 +1,171 @@
+package com.taskflow.service.importer;
+
+import com.taskflow.exception.BadRequestException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RFC 4180 style CSV reader. The first record is a header naming the columns
+ * ({@code title}, {@code description}, {@code status}, {@code assigneeEmail}); quoted
+ * fields may contain separators, escaped quotes and line breaks. A field or record longer
+ * than any valid row can be is rejected as malformed and the rest of its line skipped, so
+ * an unterminated quote cannot pull the rest of the file into memory.
+ */
+class CsvTaskImportReader implements TaskImportReader {
+
+    // the longest task field, the description, is 500 characters
+    static final int MAX_FIELD_LENGTH = 500;
+    static final int MAX_RECORD_LENGTH = 4 * 1024;
+
+    private final BufferedReader reader;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private long rowNumber;
+    private boolean headerRead;
+    // why the record just read is malformed, or null
+    private String malformed;
+
+    CsvTaskImportReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        if (!headerRead) {
+            readHeader();
+        }
+        List<String> fields = readRecord();
+        if (fields == null) {
+            return null;
+        }
+        rowNumber++;
+        if (malformed != null) {
+            return ImportRow.malformed(rowNumber, malformed);
+        }
+        return new ImportRow(rowNumber,
+                field(fields, "title"),
+                field(fields, "description"),
+                field(fields, "status"),
+                field(fields, "assigneeemail"),
+                null);
+    }
+
+    private void readHeader() throws IOException {
+        headerRead = true;
+        List<String> header = readRecord();
+        if (header == null) {
+            return;
+        }
+        if (malformed != null) {
+            throw new BadRequestException("Malformed CSV header: " + malformed);
+        }
+        for (int i = 0; i < header.size(); i++) {
+            if (header.get(i) != null) {
+                columns.put(header.get(i).trim().replace("_", "").toLowerCase(), i);
+            }
+        }
+        if (!columns.containsKey("title")) {
+            throw new BadRequestException("CSV header must contain a 'title' column");
+        }
+    }
+
+    private String field(List<String> fields, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index);
+        return value == null || value.isEmpty() ? null : value;
+    }
+
+    /**
+     * @return the fields of the next record, or {@code null} at end of input; when the
+     * record is malformed, {@link #malformed} holds the reason and the fields are partial
+     */
+    private List<String> readRecord() throws IOException {
+        malformed = null;
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        boolean any = false;
+        int length = 0;
+
+        int c;
+        while ((c = reader.read()) != -1) {
+            any = true;
+            if (current.length() > MAX_FIELD_LENGTH || ++length > MAX_RECORD_LENGTH) {
+                malformed = current.length() > MAX_FIELD_LENGTH
+                        ? "Field longer than " + MAX_FIELD_LENGTH + " characters"
+                        : "Record longer than " + MAX_RECORD_LENGTH + " characters";
+                skipLine(c);
+                return fields;
+            }
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        current.append('"');
+                    } else {
+                        reader.reset();
+                        quoted = false;
+                    }
+                } else {
+                    current.append((char) c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r') {
+                    reader.mark(1);
+                    if (reader.read() != '\n') {
+                        reader.reset();
+                    }
+                }
+                if (fields.isEmpty() && current.isEmpty()) {
+                    // blank line
+                    any = false;
+                    continue;
+                }
+                fields.add(current.toString());
+                return fields;
+            } else {
+                current.append((char) c);
+            }
+        }
+
+        if (quoted) {
+            malformed = "Unterminated quoted field";
+            return fields;
+        }
+        if (!any) {
+            return null;
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    // resynchronizes on the next line break, ignoring quotes
+    private void skipLine(int c) throws IOException {
+        while (c != -1 && c != '\n' && c != '\r') {
+            c = reader.read();
+        }
+        if (c == '\r') {
+            reader.mark(1);
+            if (reader.read() != '\n') {
+                reader.reset();
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,34 @@
+package com.taskflow.service.importer;
+
+import com.taskflow.exception.BadRequestException;
+
+public enum ImportFormat {
+    CSV,
+    NDJSON;
+
+    public static ImportFormat fromContentType(String contentType) {
+        if (contentType != null) {
+            String type = contentType.toLowerCase();
+            if (type.startsWith("text/csv")) {
+                return CSV;
+            }
+            if (type.startsWith("application/x-ndjson") || type.startsWith("application/jsonl")) {
+                return NDJSON;
+            }
+        }
+        throw new BadRequestException("Unsupported import content type: " + contentType);
+    }
+
+    public static ImportFormat fromFilename(String filename) {
+        if (filename != null) {
+            String name = filename.toLowerCase();
+            if (name.endsWith(".csv")) {
+                return CSV;
+            }
+            if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+                return NDJSON;
+            }
+        }
+        throw new BadRequestException("Cannot detect import format of file: " + filename);
+    }
+}
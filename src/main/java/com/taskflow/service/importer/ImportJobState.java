@@ -0,0 +1,9 @@
+package com.taskflow.service.importer;
+
+public enum ImportJobState {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED,
+    CANCELLED
+}
@@ -0,0 +1,18 @@
+package com.taskflow.service.importer;
+
+/**
+ * One record of an import file. {@code error} is set when the record itself could not
+ * be parsed; the remaining fields are then undefined.
+ */
+public record ImportRow(
+        long rowNumber,
+        String title,
+        String description,
+        String status,
+        String assigneeEmail,
+        String error) {
+
+    static ImportRow malformed(long rowNumber, String error) {
+        return new ImportRow(rowNumber, null, null, null, null, error);
+    }
+}
@@ -0,0 +1,107 @@
+package com.taskflow.service.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * Newline-delimited JSON reader: one task object per line, with the same field names
+ * as the CSV header. Lines longer than any valid row can be are skipped as malformed
+ * without being buffered.
+ */
+class NdjsonTaskImportReader implements TaskImportReader {
+
+    static final int MAX_LINE_LENGTH = 8 * 1024;
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private long rowNumber;
+    // whether the line just read was cut short at MAX_LINE_LENGTH
+    private boolean tooLong;
+
+    NdjsonTaskImportReader(BufferedReader reader, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        String line;
+        do {
+            line = readLine();
+            if (line == null) {
+                return null;
+            }
+        } while (!tooLong && line.isBlank());
+
+        rowNumber++;
+        if (tooLong) {
+            return ImportRow.malformed(rowNumber, "Line longer than " + MAX_LINE_LENGTH + " characters");
+        }
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(line);
+        } catch (JsonProcessingException ex) {
+            return ImportRow.malformed(rowNumber, "Malformed JSON: " + ex.getOriginalMessage());
+        }
+        if (!node.isObject()) {
+            return ImportRow.malformed(rowNumber, "Expected a JSON object");
+        }
+        return new ImportRow(rowNumber,
+                text(node, "title"),
+                text(node, "description"),
+                text(node, "status"),
+                text(node, "assigneeEmail"),
+                null);
+    }
+
+    /**
+     * Like {@link BufferedReader#readLine} but stops buffering at {@link #MAX_LINE_LENGTH},
+     * skipping the rest of an over-long line and setting {@link #tooLong}.
+     */
+    private String readLine() throws IOException {
+        tooLong = false;
+        StringBuilder line = new StringBuilder();
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        while (c != -1 && c != '\n' && c != '\r') {
+            if (line.length() < MAX_LINE_LENGTH) {
+                line.append((char) c);
+            } else {
+                tooLong = true;
+                while (c != -1 && c != '\n' && c != '\r') {
+                    c = reader.read();
+                }
+                skipLineFeed(c);
+                return "";
+            }
+            c = reader.read();
+        }
+        skipLineFeed(c);
+        return line.toString();
+    }
+
+    private void skipLineFeed(int c) throws IOException {
+        if (c == '\r') {
+            reader.mark(1);
+            if (reader.read() != '\n') {
+                reader.reset();
+            }
+        }
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
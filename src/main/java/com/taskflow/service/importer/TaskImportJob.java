@@ -0,0 +1,162 @@
+package com.taskflow.service.importer;
+
+import com.taskflow.dto.ImportJobStatus;
+import com.taskflow.dto.ImportRowError;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mutable state of one import. Written only by the worker thread running the job and
+ * read by status requests, hence the volatile fields.
+ */
+class TaskImportJob {
+
+    private final String id;
+    private final ImportFormat format;
+    private final Path file;
+    private final int maxReportedErrors;
+    private final List<ImportRowError> errors = new ArrayList<>();
+
+    private volatile ImportJobState state = ImportJobState.QUEUED;
+    private volatile boolean cancelRequested;
+    private volatile long startRow;
+    private volatile long committedRows;
+    private volatile long imported;
+    private volatile long rejected;
+    // counters as of the last committed chunk; a resume replays the rows after it
+    private volatile long committedRejected;
+    private volatile int committedErrors;
+    private volatile long processedThisRun;
+    private volatile long parseNanos;
+    private volatile long writeNanos;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile String failureMessage;
+
+    TaskImportJob(String id, ImportFormat format, Path file, long startRow, int maxReportedErrors) {
+        this.id = id;
+        this.format = format;
+        this.file = file;
+        this.startRow = startRow;
+        this.committedRows = startRow;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    String id() {
+        return id;
+    }
+
+    ImportFormat format() {
+        return format;
+    }
+
+    Path file() {
+        return file;
+    }
+
+    ImportJobState state() {
+        return state;
+    }
+
+    long startRow() {
+        return startRow;
+    }
+
+    long committedRows() {
+        return committedRows;
+    }
+
+    boolean isCancelRequested() {
+        return cancelRequested;
+    }
+
+    void requestCancel() {
+        cancelRequested = true;
+    }
+
+    void start() {
+        state = ImportJobState.RUNNING;
+        startedAt = Instant.now();
+        finishedAt = null;
+        failureMessage = null;
+        processedThisRun = 0;
+        parseNanos = 0;
+        writeNanos = 0;
+    }
+
+    Instant finishedAt() {
+        return finishedAt;
+    }
+
+    boolean isFinished() {
+        return state == ImportJobState.COMPLETED || state == ImportJobState.FAILED || state == ImportJobState.CANCELLED;
+    }
+
+    /**
+     * Restarts after the last committed row, dropping the rejections counted for rows that
+     * were read but rolled back, since they are read again.
+     */
+    void requeueFrom(long row) {
+        startRow = row;
+        committedRows = row;
+        rejected = committedRejected;
+        synchronized (errors) {
+            errors.subList(Math.min(committedErrors, errors.size()), errors.size()).clear();
+        }
+        cancelRequested = false;
+        state = ImportJobState.QUEUED;
+    }
+
+    void reject(long row, String message) {
+        rejected++;
+        synchronized (errors) {
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new ImportRowError(row, message));
+            }
+        }
+    }
+
+    void commit(long throughRow, int storedRows, long nanos) {
+        imported += storedRows;
+        processedThisRun += throughRow - committedRows;
+        committedRows = throughRow;
+        writeNanos += nanos;
+        committedRejected = rejected;
+        synchronized (errors) {
+            committedErrors = errors.size();
+        }
+    }
+
+    void addParseNanos(long nanos) {
+        parseNanos += nanos;
+    }
+
+    void finish(ImportJobState finalState, String message) {
+        failureMessage = message;
+        finishedAt = Instant.now();
+        state = finalState;
+    }
+
+    List<ImportRowError> errors() {
+        synchronized (errors) {
+            return List.copyOf(errors);
+        }
+    }
+
+    ImportJobStatus toStatus() {
+        Instant started = startedAt;
+        Instant end = finishedAt != null ? finishedAt : Instant.now();
+        double seconds = started == null ? 0 : Duration.between(started, end).toNanos() / 1e9;
+        double rowsPerSecond = seconds > 0 ? processedThisRun / seconds : 0;
+        return new ImportJobStatus(id, format, state, startRow, committedRows, imported, rejected,
+                rowsPerSecond,
+                TimeUnit.NANOSECONDS.toMillis(parseNanos),
+                TimeUnit.NANOSECONDS.toMillis(writeNanos),
+                started, finishedAt, failureMessage);
+    }
+}
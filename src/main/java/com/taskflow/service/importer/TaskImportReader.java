@@ -0,0 +1,30 @@
+package com.taskflow.service.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Pulls one {@link ImportRow} at a time from an import file, so memory use does not
+ * depend on the size of the file.
+ */
+public interface TaskImportReader extends Closeable {
+
+    /**
+     * @return the next row, or {@code null} at the end of the file
+     */
+    ImportRow next() throws IOException;
+
+    static TaskImportReader open(Path file, ImportFormat format, ObjectMapper objectMapper) throws IOException {
+        BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        return switch (format) {
+            case CSV -> new CsvTaskImportReader(reader);
+            case NDJSON -> new NdjsonTaskImportReader(reader, objectMapper);
+        };
+    }
+}
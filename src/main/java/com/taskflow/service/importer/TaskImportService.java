@@ -0,0 +1,331 @@
+package com.taskflow.service.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.config.TaskImportProperties;
+import com.taskflow.dto.ImportJobStatus;
+import com.taskflow.dto.ImportRowError;
+import com.taskflow.event.TaskChangedEvent;
+import com.taskflow.event.TaskSnapshot;
+import com.taskflow.exception.BadRequestException;
+import com.taskflow.exception.ResourceNotFoundException;
+import com.taskflow.model.Task;
+import com.taskflow.model.TaskStatus;
+import com.taskflow.model.User;
+import com.taskflow.repository.TaskRepository;
+import com.taskflow.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Runs bulk task imports as background jobs. Uploads are first spooled to disk so the
+ * HTTP request can return immediately and a failed or cancelled job can be resumed from
+ * its last committed row. Rows are then streamed from the spool file, validated against
+ * the {@link Task} constraints and written in one transaction per chunk.
+ *
+ * <p>Finished jobs are forgotten {@code finished-job-retention} after they end, together
+ * with their spool file; until then failed and cancelled jobs can be resumed.
+ */
+@Service
+public class TaskImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskImportService.class);
+    private static final long SWEEP_INTERVAL_SECONDS = 60;
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final TaskImportProperties properties;
+    private final ExecutorService executor;
+    private final ScheduledExecutorService sweeper;
+    private final Map<String, TaskImportJob> jobs = new ConcurrentHashMap<>();
+
+    public TaskImportService(TaskRepository taskRepository, UserRepository userRepository, Validator validator,
+                             PlatformTransactionManager transactionManager, ApplicationEventPublisher eventPublisher,
+                             ObjectMapper objectMapper, TaskImportProperties properties) {
+        this.taskRepository = taskRepository;
+        this.userRepository = userRepository;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, properties.maxConcurrentJobs()), runnable -> {
+            Thread thread = new Thread(runnable, "task-import-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "task-import-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sweeper.scheduleWithFixedDelay(() -> evictExpired(Instant.now()),
+                SWEEP_INTERVAL_SECONDS, SWEEP_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Spools a raw upload, refusing it once it exceeds {@code taskflow.import.max-file-size}.
+     */
+    public ImportJobStatus submit(InputStream content, ImportFormat format, long startRow) throws IOException {
+        String id = UUID.randomUUID().toString();
+        Path file = spoolFile(id, format);
+        long maxBytes = properties.maxFileSize().toBytes();
+        try (OutputStream out = Files.newOutputStream(file)) {
+            byte[] buffer = new byte[COPY_BUFFER_SIZE];
+            long total = 0;
+            int read;
+            while ((read = content.read(buffer)) != -1) {
+                total += read;
+                if (total > maxBytes) {
+                    throw new BadRequestException("Import file exceeds the maximum size of " + properties.maxFileSize());
+                }
+                out.write(buffer, 0, read);
+            }
+        } catch (IOException | RuntimeException ex) {
+            deleteSpoolFile(file);
+            throw ex;
+        }
+        return start(id, format, file, startRow);
+    }
+
+    /**
+     * Spools a multipart upload. The container has already stored it, within the multipart
+     * size limit, so the file is moved into the spool rather than copied where possible.
+     */
+    public ImportJobStatus submit(MultipartFile upload, ImportFormat format, long startRow) throws IOException {
+        String id = UUID.randomUUID().toString();
+        Path file = spoolFile(id, format);
+        try {
+            upload.transferTo(file);
+        } catch (IOException | RuntimeException ex) {
+            deleteSpoolFile(file);
+            throw ex;
+        }
+        return start(id, format, file, startRow);
+    }
+
+    private Path spoolFile(String id, ImportFormat format) throws IOException {
+        Path spoolDirectory = properties.resolvedSpoolDirectory();
+        Files.createDirectories(spoolDirectory);
+        return spoolDirectory.resolve(id + "." + format.name().toLowerCase());
+    }
+
+    private ImportJobStatus start(String id, ImportFormat format, Path file, long startRow) {
+        TaskImportJob job = new TaskImportJob(id, format, file, Math.max(0, startRow), properties.maxReportedErrors());
+        jobs.put(id, job);
+        executor.execute(() -> run(job));
+        return job.toStatus();
+    }
+
+    public ImportJobStatus getJob(String id) {
+        return findJob(id).toStatus();
+    }
+
+    public List<ImportRowError> getErrors(String id) {
+        return findJob(id).errors();
+    }
+
+    public ImportJobStatus resume(String id) {
+        TaskImportJob job = findJob(id);
+        synchronized (job) {
+            if (job.state() != ImportJobState.FAILED && job.state() != ImportJobState.CANCELLED) {
+                throw new BadRequestException("Only failed or cancelled import jobs can be resumed");
+            }
+            if (!Files.exists(job.file())) {
+                throw new BadRequestException("Import file of job " + id + " is no longer available");
+            }
+            job.requeueFrom(job.committedRows());
+        }
+        executor.execute(() -> run(job));
+        return job.toStatus();
+    }
+
+    public ImportJobStatus cancel(String id) {
+        TaskImportJob job = findJob(id);
+        job.requestCancel();
+        return job.toStatus();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sweeper.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    /**
+     * Drops the jobs that finished more than the retention ago and deletes their spool files.
+     */
+    void evictExpired(Instant now) {
+        Instant cutoff = now.minus(properties.finishedJobRetention());
+        for (TaskImportJob job : jobs.values()) {
+            synchronized (job) {
+                if (job.isFinished() && job.finishedAt() != null && job.finishedAt().isBefore(cutoff)) {
+                    jobs.remove(job.id());
+                    deleteSpoolFile(job);
+                }
+            }
+        }
+    }
+
+    void run(TaskImportJob job) {
+        if (job.isCancelRequested()) {
+            job.finish(ImportJobState.CANCELLED, null);
+            return;
+        }
+        job.start();
+
+        int chunkSize = Math.max(1, properties.chunkSize());
+        Map<String, Optional<User>> assignees = assigneeCache(properties.assigneeCacheSize());
+        List<Task> chunk = new ArrayList<>(chunkSize);
+        long lastRow = job.committedRows();
+
+        try (TaskImportReader reader = TaskImportReader.open(job.file(), job.format(), objectMapper)) {
+            long parseStart = System.nanoTime();
+            ImportRow row;
+            while (!job.isCancelRequested() && (row = reader.next()) != null) {
+                if (row.rowNumber() <= job.startRow()) {
+                    continue;
+                }
+                lastRow = row.rowNumber();
+                Task task = toTask(row, assignees, job);
+                if (task != null) {
+                    chunk.add(task);
+                }
+                if (lastRow - job.committedRows() >= chunkSize) {
+                    job.addParseNanos(System.nanoTime() - parseStart);
+                    flush(chunk, lastRow, job);
+                    parseStart = System.nanoTime();
+                }
+            }
+            job.addParseNanos(System.nanoTime() - parseStart);
+            flush(chunk, lastRow, job);
+        } catch (Exception ex) {
+            log.warn("Import job {} failed after row {}", job.id(), job.committedRows(), ex);
+            job.finish(ImportJobState.FAILED, ex.getMessage());
+            return;
+        }
+
+        if (job.isCancelRequested()) {
+            job.finish(ImportJobState.CANCELLED, null);
+            return;
+        }
+        job.finish(ImportJobState.COMPLETED, null);
+        deleteSpoolFile(job);
+    }
+
+    private static void deleteSpoolFile(TaskImportJob job) {
+        deleteSpoolFile(job.file());
+    }
+
+    private static void deleteSpoolFile(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            log.warn("Could not delete spool file {}", file, ex);
+        }
+    }
+
+    private void flush(List<Task> chunk, long throughRow, TaskImportJob job) {
+        if (throughRow <= job.committedRows()) {
+            return;
+        }
+        long start = System.nanoTime();
+        if (!chunk.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (Task saved : taskRepository.saveAll(chunk)) {
+                    eventPublisher.publishEvent(TaskChangedEvent.created(TaskSnapshot.of(saved)));
+                }
+            });
+        }
+        job.commit(throughRow, chunk.size(), System.nanoTime() - start);
+        chunk.clear();
+    }
+
+    private Task toTask(ImportRow row, Map<String, Optional<User>> assignees, TaskImportJob job) {
+        if (row.error() != null) {
+            job.reject(row.rowNumber(), row.error());
+            return null;
+        }
+
+        Task task = new Task();
+        task.setTitle(row.title());
+        task.setDescription(row.description());
+
+        if (row.status() != null) {
+            try {
+                task.setStatus(TaskStatus.valueOf(row.status().trim().toUpperCase()));
+            } catch (IllegalArgumentException ex) {
+                job.reject(row.rowNumber(), "Unknown status: " + row.status());
+                return null;
+            }
+        }
+
+        // the file does not say when a completed task was finished, so completedAt stays
+        // unknown rather than claiming it was completed the moment it was imported
+
+        if (row.assigneeEmail() != null) {
+            Optional<User> assignee = assignees.computeIfAbsent(row.assigneeEmail().trim(), userRepository::findByEmail);
+            if (assignee.isEmpty()) {
+                job.reject(row.rowNumber(), "Unknown assignee: " + row.assigneeEmail());
+                return null;
+            }
+            task.setAssignedTo(assignee.get());
+        }
+
+        Set<ConstraintViolation<Task>> violations = validator.validate(task);
+        if (!violations.isEmpty()) {
+            job.reject(row.rowNumber(), violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+            return null;
+        }
+        return task;
+    }
+
+    private TaskImportJob findJob(String id) {
+        TaskImportJob job = jobs.get(id);
+        if (job == null) {
+            throw new ResourceNotFoundException("Import job not found with id: " + id);
+        }
+        return job;
+    }
+
+    private static Map<String, Optional<User>> assigneeCache(int maxSize) {
+        return new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Optional<User>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+}
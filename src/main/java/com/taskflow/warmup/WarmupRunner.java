@@ -0,0 +1,319 @@
+package com.taskflow.warmup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.taskflow.config.WarmupProperties;
+import com.taskflow.dto.WarmupReport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.web.context.WebServerInitializedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Warms up the JIT before the instance takes traffic. When Spring Boot reports the
+ * application ready, readiness is switched back to {@link ReadinessState#REFUSING_TRAFFIC}
+ * and a read-only request mix is replayed against the local server over HTTP, so the
+ * filters, controllers, Jackson and Hibernate paths are compiled. Each call of the mix is
+ * made once, then calls are sampled by weight. Load is measured in fixed windows and stops
+ * once throughput stays within {@code tolerance} for {@code stableWindows} windows, or at
+ * {@code maxDuration}. Readiness is then restored.
+ */
+public class WarmupRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(WarmupRunner.class);
+    private static final int MAX_SAMPLED_IDS = 100;
+
+    private final WarmupProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ApplicationAvailability availability;
+    private final ObjectMapper objectMapper;
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    private volatile int port;
+    private volatile boolean complete;
+    private volatile long startNanos;
+    private volatile WarmupReport report;
+
+    public WarmupRunner(WarmupProperties properties, ApplicationEventPublisher eventPublisher,
+                        ApplicationAvailability availability, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+        this.availability = availability;
+        this.objectMapper = objectMapper;
+    }
+
+    @EventListener
+    public void onWebServerInitialized(WebServerInitializedEvent event) {
+        port = event.getWebServer().getPort();
+    }
+
+    @EventListener
+    public void onReadinessChanged(AvailabilityChangeEvent<ReadinessState> event) {
+        if (event.getState() != ReadinessState.ACCEPTING_TRAFFIC || !started.compareAndSet(false, true)) {
+            return;
+        }
+        if (!properties.enabled() || port <= 0) {
+            finish(new WarmupReport(WarmupReport.Outcome.SKIPPED, 0, 0, null, null));
+            return;
+        }
+        startNanos = System.nanoTime();
+        Thread thread = new Thread(this::run, "jit-warmup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * True once warm-up finished or was skipped. Readiness must not report UP before.
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    public WarmupReport report() {
+        WarmupReport current = report;
+        if (current != null) {
+            return current;
+        }
+        long elapsed = started.get() ? TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos) : 0;
+        return new WarmupReport(WarmupReport.Outcome.RUNNING, elapsed, 0, null, null);
+    }
+
+    void run() {
+        awaitReadinessRecorded();
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+        WarmupReport result;
+        try {
+            result = warmUp("http://localhost:" + port);
+        } catch (Exception ex) {
+            log.warn("JIT warm-up failed, accepting traffic anyway", ex);
+            result = new WarmupReport(WarmupReport.Outcome.FAILED,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos), 0, null, null);
+        }
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.ACCEPTING_TRAFFIC);
+        finish(result);
+    }
+
+    WarmupReport warmUp(String baseUrl) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+        List<Long> taskIds = new ArrayList<>();
+        List<Long> userIds = new ArrayList<>();
+        sampleIds(client, baseUrl, taskIds, userIds);
+        List<String> paths = weightedPaths(properties.effectiveMix());
+        // every call of the mix runs at least once, however soon the load turns out stable
+        Random first = new Random();
+        for (String path : new LinkedHashSet<>(paths)) {
+            call(client, baseUrl + resolve(path, taskIds, userIds, first));
+        }
+
+        AtomicReference<ConcurrentLinkedQueue<Long>> window = new AtomicReference<>(new ConcurrentLinkedQueue<>());
+        AtomicBoolean running = new AtomicBoolean(true);
+        int concurrency = Math.max(1, properties.concurrency());
+        AtomicInteger threads = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "jit-warmup-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < concurrency; i++) {
+            workers.execute(() -> {
+                while (running.get()) {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    String path = resolve(paths.get(random.nextInt(paths.size())), taskIds, userIds, random);
+                    long start = System.nanoTime();
+                    if (call(client, baseUrl + path)) {
+                        window.get().add(System.nanoTime() - start);
+                    }
+                }
+            });
+        }
+
+        List<WarmupReport.Window> windows = new ArrayList<>();
+        long requests = 0;
+        WarmupReport.Outcome outcome = WarmupReport.Outcome.TIME_LIMIT;
+        long windowNanos = properties.window().toNanos();
+        long deadline = startNanos + properties.maxDuration().toNanos();
+        try {
+            while (System.nanoTime() - deadline < 0) {
+                long windowStart = System.nanoTime();
+                TimeUnit.NANOSECONDS.sleep(Math.min(windowNanos, Math.max(1, deadline - windowStart)));
+                ConcurrentLinkedQueue<Long> samples = window.getAndSet(new ConcurrentLinkedQueue<>());
+                WarmupReport.Window stats = summarize(new ArrayList<>(samples), System.nanoTime() - windowStart);
+                windows.add(stats);
+                requests += samples.size();
+                log.debug("Warm-up window: {}", stats);
+                if (isStable(windows, properties.stableWindows(), properties.tolerance())) {
+                    outcome = WarmupReport.Outcome.STABLE;
+                    break;
+                }
+            }
+        } finally {
+            running.set(false);
+            workers.shutdown();
+            workers.awaitTermination(5, TimeUnit.SECONDS);
+        }
+
+        long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        return new WarmupReport(outcome, duration, requests,
+                windows.isEmpty() ? null : windows.get(0),
+                windows.isEmpty() ? null : windows.get(windows.size() - 1));
+    }
+
+    /**
+     * Stable when the last {@code count} windows all served traffic and each is within
+     * {@code tolerance} of their mean throughput.
+     */
+    static boolean isStable(List<WarmupReport.Window> windows, int count, double tolerance) {
+        if (count < 1 || windows.size() < count) {
+            return false;
+        }
+        List<WarmupReport.Window> recent = windows.subList(windows.size() - count, windows.size());
+        double mean = recent.stream().mapToDouble(WarmupReport.Window::requestsPerSecond).average().orElse(0);
+        if (mean <= 0) {
+            return false;
+        }
+        return recent.stream().allMatch(w -> Math.abs(w.requestsPerSecond() - mean) <= tolerance * mean);
+    }
+
+    static WarmupReport.Window summarize(List<Long> latencies, long elapsedNanos) {
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        double seconds = Math.max(1, elapsedNanos) / 1e9;
+        return new WarmupReport.Window(round(sorted.length / seconds),
+                round(percentile(sorted, 50) / 1e6), round(percentile(sorted, 99) / 1e6));
+    }
+
+    static String resolve(String path, List<Long> taskIds, List<Long> userIds, Random random) {
+        return path
+                .replace("{taskId}", String.valueOf(pick(taskIds, random)))
+                .replace("{userId}", String.valueOf(pick(userIds, random)));
+    }
+
+    /**
+     * Samples ids with bounded reads only, so a large database is not listed on every
+     * start: assignees come from the in-memory analytics snapshot and their tasks from one
+     * inbox page each.
+     */
+    private void sampleIds(HttpClient client, String baseUrl, List<Long> taskIds, List<Long> userIds) {
+        for (JsonNode counts : fetchArray(client, baseUrl + "/api/analytics/users")) {
+            if (userIds.size() < MAX_SAMPLED_IDS) {
+                userIds.add(counts.path("userId").asLong());
+            }
+        }
+        for (Long userId : userIds) {
+            if (taskIds.size() >= MAX_SAMPLED_IDS) {
+                break;
+            }
+            JsonNode inbox = fetch(client, baseUrl + "/api/tasks/user/" + userId + "/inbox?size=" + MAX_SAMPLED_IDS);
+            for (JsonNode task : inbox.path("tasks")) {
+                if (taskIds.size() < MAX_SAMPLED_IDS) {
+                    taskIds.add(task.path("id").asLong());
+                }
+            }
+        }
+    }
+
+    private JsonNode fetchArray(HttpClient client, String url) {
+        JsonNode body = fetch(client, url);
+        return body.isArray() ? body : objectMapper.createArrayNode();
+    }
+
+    private JsonNode fetch(HttpClient client, String url) {
+        try {
+            HttpResponse<byte[]> response = client.send(HttpRequest.newBuilder(URI.create(url)).GET().build(),
+                    HttpResponse.BodyHandlers.ofByteArray());
+            JsonNode body = objectMapper.readTree(response.body());
+            return body != null ? body : MissingNode.getInstance();
+        } catch (IOException ex) {
+            log.debug("Could not sample ids from {}", url, ex);
+            return MissingNode.getInstance();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return MissingNode.getInstance();
+        }
+    }
+
+    // 4xx answers still exercise the whole stack, so only transport failures are dropped
+    private static boolean call(HttpClient client, String url) {
+        try {
+            client.send(HttpRequest.newBuilder(URI.create(url)).GET().timeout(Duration.ofSeconds(10)).build(),
+                    HttpResponse.BodyHandlers.discarding());
+            return true;
+        } catch (IOException ex) {
+            return false;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void awaitReadinessRecorded() {
+        // the event that triggered the warm-up may still be on its way to the availability
+        // bean; overriding it before it lands would leave the instance marked ready
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (availability.getReadinessState() != ReadinessState.ACCEPTING_TRAFFIC
+                && System.nanoTime() - deadline < 0) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void finish(WarmupReport result) {
+        report = result;
+        complete = true;
+        log.info("JIT warm-up {}: {} ms, {} requests, before {}, after {}", result.outcome(),
+                result.durationMs(), result.requests(), result.first(), result.last());
+    }
+
+    private static List<String> weightedPaths(List<WarmupProperties.Call> mix) {
+        List<String> paths = new ArrayList<>();
+        for (WarmupProperties.Call call : mix) {
+            for (int i = 0; i < Math.max(0, call.weight()); i++) {
+                paths.add(call.path());
+            }
+        }
+        if (paths.isEmpty()) {
+            throw new IllegalArgumentException("Warm-up mix has no calls with a positive weight");
+        }
+        return paths;
+    }
+
+    private static long pick(List<Long> ids, Random random) {
+        return ids.isEmpty() ? 1 : ids.get(random.nextInt(ids.size()));
+    }
+
+    private static double percentile(long[] sorted, int percent) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
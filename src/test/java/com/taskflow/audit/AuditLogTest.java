@@ -0,0 +1,123 @@
+package com.taskflow.audit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditLogTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+    private static final int SEGMENT_BYTES = 1024;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void history_ShouldReturnRecordsOfTheTaskInAppendOrder() throws IOException {
+        try (AuditLog log = new AuditLog(directory, SEGMENT_BYTES, FsyncPolicy.ALWAYS)) {
+            log.append(record(1, AuditRecord.ChangeType.CREATED, "open"));
+            log.append(record(2, AuditRecord.ChangeType.CREATED, "other"));
+            log.append(record(1, AuditRecord.ChangeType.UPDATED, "done"));
+
+            List<AuditRecord> history = log.history(1);
+
+            assertEquals(2, history.size());
+            assertEquals(record(1, AuditRecord.ChangeType.CREATED, "open"), history.get(0));
+            assertEquals("done", history.get(1).changes().get(0).newValue());
+            assertTrue(log.history(3).isEmpty());
+        }
+    }
+
+    @Test
+    void append_ShouldRollSegmentsAndRebuildTheIndexOnReopen() throws IOException {
+        try (AuditLog log = new AuditLog(directory, SEGMENT_BYTES, FsyncPolicy.NEVER)) {
+            for (int i = 0; i < 50; i++) {
+                log.append(record(i % 5, AuditRecord.ChangeType.UPDATED, "v" + i));
+            }
+            assertTrue(log.segmentCount() > 1);
+        }
+
+        try (AuditLog log = new AuditLog(directory, SEGMENT_BYTES, FsyncPolicy.NEVER)) {
+            List<AuditRecord> history = log.history(3);
+            assertEquals(10, history.size());
+            assertEquals("v3", history.get(0).changes().get(0).newValue());
+            assertEquals("v48", history.get(9).changes().get(0).newValue());
+
+            List<AuditRecord> all = new ArrayList<>();
+            log.replay(all::add);
+            assertEquals(50, all.size());
+        }
+    }
+
+    @Test
+    void open_ShouldDropATornRecordAndKeepAppending() throws IOException {
+        try (AuditLog log = new AuditLog(directory, SEGMENT_BYTES, FsyncPolicy.ALWAYS)) {
+            log.append(record(1, AuditRecord.ChangeType.CREATED, "open"));
+            log.append(record(1, AuditRecord.ChangeType.UPDATED, "torn"));
+        }
+        int secondFrame = 8 + record(1, AuditRecord.ChangeType.CREATED, "open").encode().length;
+        try (FileChannel channel = FileChannel.open(directory.resolve("0000000001.seg"), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0x7f}), secondFrame + 12);
+        }
+
+        try (AuditLog log = new AuditLog(directory, SEGMENT_BYTES, FsyncPolicy.ALWAYS)) {
+            assertEquals(1, log.history(1).size());
+            log.append(record(1, AuditRecord.ChangeType.UPDATED, "after"));
+        }
+        try (AuditLog log = new AuditLog(directory, SEGMENT_BYTES, FsyncPolicy.ALWAYS)) {
+            List<AuditRecord> history = log.history(1);
+            assertEquals(2, history.size());
+            assertEquals("after", history.get(1).changes().get(0).newValue());
+        }
+    }
+
+    @Test
+    void compact_ShouldRewriteSealedSegmentsOnly() throws IOException {
+        try (AuditLog log = new AuditLog(directory, SEGMENT_BYTES, FsyncPolicy.NEVER)) {
+            for (int i = 0; i < 50; i++) {
+                log.append(record(i % 2, AuditRecord.ChangeType.UPDATED, "v" + i));
+            }
+            int before = log.history(1).size();
+
+            int removed = log.compact(record -> record.taskId() != 1);
+
+            assertTrue(removed > 0);
+            assertEquals(before - removed, log.history(1).size());
+            assertEquals(25, log.history(0).size());
+            log.append(record(0, AuditRecord.ChangeType.UPDATED, "last"));
+            assertEquals("last", log.history(0).get(25).changes().get(0).newValue());
+        }
+
+        try (AuditLog log = new AuditLog(directory, SEGMENT_BYTES, FsyncPolicy.NEVER)) {
+            assertEquals(26, log.history(0).size());
+            assertEquals("v0", log.history(0).get(0).changes().get(0).newValue());
+        }
+    }
+
+    @Test
+    void tasksDeletedBefore_ShouldOnlyReturnTasksWhoseLastRecordIsAnOldDeletion() throws IOException {
+        try (AuditLog log = new AuditLog(directory, SEGMENT_BYTES, FsyncPolicy.NEVER)) {
+            log.append(record(1, AuditRecord.ChangeType.DELETED, "gone"));
+            log.append(record(2, AuditRecord.ChangeType.UPDATED, "alive"));
+            log.append(new AuditRecord(3, NOW.plusSeconds(60), AuditRecord.ChangeType.DELETED, "system", List.of()));
+
+            assertEquals(Set.of(1L), log.tasksDeletedBefore(NOW.plusSeconds(1)));
+        }
+    }
+
+    private static AuditRecord record(long taskId, AuditRecord.ChangeType type, String status) {
+        return new AuditRecord(taskId, NOW, type, "alice",
+                List.of(new AuditRecord.FieldChange("status", null, status)));
+    }
+}
@@ -0,0 +1,140 @@
+package com.taskflow.deadline;
+
+import com.taskflow.audit.AuditLog;
+import com.taskflow.audit.AuditRecord;
+import com.taskflow.config.AuditProperties;
+import com.taskflow.config.InboxProperties;
+import com.taskflow.event.TaskChangedEvent;
+import com.taskflow.event.TaskSnapshot;
+import com.taskflow.exception.DeadlineExceededException;
+import com.taskflow.model.Task;
+import com.taskflow.model.TaskStatus;
+import com.taskflow.repository.TaskRepository;
+import com.taskflow.service.TaskInboxService;
+import com.taskflow.service.audit.TaskAuditService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig(DeadlineAspectTest.Config.class)
+class DeadlineAspectTest {
+
+    @Autowired
+    private ApplicationEventPublisher publisher;
+
+    @Autowired
+    private TaskInboxService taskInboxService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private AuditLog auditLog;
+
+    @AfterEach
+    void tearDown() {
+        RequestDeadline.clear();
+    }
+
+    @Test
+    void serviceCall_ShouldBeRefused_WhenDeadlineHasPassed() {
+        RequestDeadline.start("GET /api/tasks/user/1/inbox", 0);
+
+        assertThrows(DeadlineExceededException.class, () -> taskInboxService.getInbox(1L, null, null));
+    }
+
+    @Test
+    void listeners_ShouldReceiveChange_WhenDeadlineExpiresDuringAnEarlierListener() {
+        when(taskRepository.findInboxByAssignedToId(1L)).thenReturn(List.of());
+        taskInboxService.getInbox(1L, null, null);
+        TaskSnapshot created = new TaskSnapshot(10L, "Write report", null, TaskStatus.PENDING, 1L,
+                LocalDateTime.of(2026, 1, 1, 9, 0), null, null);
+
+        RequestDeadline deadline = RequestDeadline.start("POST /api/tasks", 20);
+        assertDoesNotThrow(() -> publisher.publishEvent(TaskChangedEvent.created(created)));
+        assertTrue(deadline.isExpired());
+        assertSame(deadline, RequestDeadline.current());
+        RequestDeadline.clear();
+
+        verify(auditLog).append(any(AuditRecord.class));
+        assertEquals(List.of(10L), taskInboxService.getInbox(1L, null, null).tasks().stream()
+                .map(Task::getId).toList());
+    }
+
+    @Configuration
+    @EnableAspectJAutoProxy
+    static class Config {
+
+        @Bean
+        DeadlineAspect deadlineAspect() {
+            return new DeadlineAspect();
+        }
+
+        @Bean
+        TaskRepository taskRepository() {
+            TaskRepository taskRepository = mock(TaskRepository.class);
+            when(taskRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+                List<Task> tasks = new ArrayList<>();
+                for (Long id : invocation.<Iterable<Long>>getArgument(0)) {
+                    Task task = new Task();
+                    task.setId(id);
+                    tasks.add(task);
+                }
+                return tasks;
+            });
+            return taskRepository;
+        }
+
+        @Bean
+        AuditLog auditLog() {
+            return mock(AuditLog.class);
+        }
+
+        @Bean
+        TaskInboxService taskInboxService(TaskRepository taskRepository) {
+            return new TaskInboxService(taskRepository, new InboxProperties(10, Duration.ofHours(1)));
+        }
+
+        @Bean
+        TaskAuditService taskAuditService(AuditLog auditLog) {
+            return new TaskAuditService(auditLog, new AuditProperties(null, null, null, null, null, null, "X-User-Id"));
+        }
+
+        @Bean
+        SlowListener slowListener() {
+            return new SlowListener();
+        }
+    }
+
+    /**
+     * Runs before the real listeners and outlasts the request's deadline.
+     */
+    @Service
+    static class SlowListener {
+
+        @Order(Ordered.HIGHEST_PRECEDENCE)
+        @TransactionalEventListener(fallbackExecution = true)
+        public void onTaskChanged(TaskChangedEvent event) throws InterruptedException {
+            Thread.sleep(50);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.taskflow.deadline;
+
+import com.taskflow.config.DeadlineProperties;
+import com.taskflow.exception.DeadlineExceededException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class RequestDeadlineTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestDeadline.clear();
+    }
+
+    @Test
+    void checkCurrent_ShouldThrowException_WhenDeadlineHasPassed() {
+        RequestDeadline.start("GET /api/tasks", 0);
+
+        assertThrows(DeadlineExceededException.class, () -> RequestDeadline.checkCurrent("getAllTasks"));
+    }
+
+    @Test
+    void applyQueryTimeout_ShouldUseRemainingBudgetRoundedUpToSeconds() throws Exception {
+        Statement statement = mock(Statement.class);
+        RequestDeadline.start("GET /api/tasks", 1500);
+
+        RequestDeadline.applyQueryTimeout(statement);
+
+        verify(statement).setQueryTimeout(2);
+    }
+
+    @Test
+    void applyQueryTimeout_ShouldRefuseQuery_WhenBudgetIsSpent() throws Exception {
+        Statement statement = mock(Statement.class);
+        RequestDeadline.start("GET /api/tasks", 0);
+
+        assertThrows(SQLTimeoutException.class, () -> RequestDeadline.applyQueryTimeout(statement));
+        verify(statement, never()).setQueryTimeout(anyInt());
+    }
+
+    @Test
+    void propagate_ShouldCarryDeadlineToOtherThread() throws Exception {
+        RequestDeadline deadline = RequestDeadline.start("GET /api/tasks", 10_000);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            assertSame(deadline, executor.submit(RequestDeadline.propagate(RequestDeadline::current)).get());
+            assertNull(executor.submit(RequestDeadline::current).get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void timeoutMs_ShouldPreferHeader_ThenEndpointDefault() {
+        DeadlineFilter filter = new DeadlineFilter(new DeadlineProperties("X-Request-Timeout-Ms", 30_000, 60_000,
+                List.of(new DeadlineProperties.Endpoint("GET", "/api/tasks/**", 5_000))));
+
+        MockHttpServletRequest withHeader = new MockHttpServletRequest("GET", "/api/tasks/1");
+        withHeader.addHeader("X-Request-Timeout-Ms", "120000");
+        MockHttpServletRequest matching = new MockHttpServletRequest("GET", "/api/tasks/1");
+        MockHttpServletRequest other = new MockHttpServletRequest("POST", "/api/tasks");
+
+        assertEquals(60_000, filter.timeoutMs(withHeader));
+        assertEquals(5_000, filter.timeoutMs(matching));
+        assertEquals(30_000, filter.timeoutMs(other));
+    }
+}
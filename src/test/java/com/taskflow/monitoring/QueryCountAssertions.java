@@ -0,0 +1,35 @@
+package com.taskflow.monitoring;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Test assertions on the number of SQL statements a call executes. The application
+ * context under test must include {@code QueryMonitoringConfig} so that the data source
+ * is inspected; slices such as {@code @DataJpaTest} need to {@code @Import} it.
+ */
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    public static <T> T assertMaxStatements(int max, Supplier<T> call) {
+        T result;
+        try (QueryScope scope = QueryScope.open("test")) {
+            result = call.get();
+            if (scope.statementCount() > max) {
+                fail(String.format("Expected at most %d statements but %d were executed:%n%s",
+                        max, scope.statementCount(), String.join(System.lineSeparator(), scope.statements())));
+            }
+        }
+        return result;
+    }
+
+    public static void assertMaxStatements(int max, Runnable call) {
+        assertMaxStatements(max, () -> {
+            call.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,44 @@
+package com.taskflow.monitoring;
+
+import com.taskflow.config.QueryMonitoringProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryScopeTest {
+
+    private final QueryMonitor queryMonitor = new QueryMonitor(new QueryMonitoringProperties(500, 50));
+
+    @Test
+    void statements_ShouldBeCountedInAllOpenScopes() {
+        try (QueryScope request = QueryScope.open("GET /api/tasks")) {
+            queryMonitor.statementExecuted("select 1", 1_000);
+            try (QueryScope call = QueryScope.open("TaskService.getAllTasks")) {
+                queryMonitor.statementExecuted("select 2", 1_000);
+                assertEquals("GET /api/tasks > TaskService.getAllTasks", QueryScope.describeCurrent());
+                assertEquals(1, call.statementCount());
+            }
+            assertEquals(2, request.statementCount());
+            assertEquals(List.of("select 1", "select 2"), request.statements());
+        }
+    }
+
+    @Test
+    void statements_ShouldBeIgnored_WhenNoScopeIsOpen() {
+        queryMonitor.statementExecuted("select 1", 1_000);
+
+        try (QueryScope scope = QueryScope.open("later")) {
+            assertEquals(0, scope.statementCount());
+        }
+    }
+
+    @Test
+    void assertMaxStatements_ShouldFail_WhenLimitIsExceeded() {
+        assertThrows(AssertionError.class, () -> QueryCountAssertions.assertMaxStatements(1, () -> {
+            queryMonitor.statementExecuted("select 1", 1_000);
+            queryMonitor.statementExecuted("select 2", 1_000);
+        }));
+    }
+}
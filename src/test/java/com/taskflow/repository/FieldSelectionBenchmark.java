@@ -0,0 +1,111 @@
+package com.taskflow.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.taskflow.model.Task;
+import com.taskflow.model.TaskStatus;
+import com.taskflow.model.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Compares the list endpoint's full entities with sparse fieldsets: query time, including
+ * JSON serialization, and payload size. Not part of the regular build; run it with
+ * {@code mvn test -Dtest=FieldSelectionBenchmark}.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+class FieldSelectionBenchmark {
+
+    private static final int USERS = 2_000;
+    private static final int TASKS = 20_000;
+    private static final int WARMUP_RUNS = 10;
+    private static final int MEASURED_RUNS = 30;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    void listTasks() throws Exception {
+        seed();
+        System.out.printf("%-45s %12s %14s%n", "GET /api/tasks", "median ms", "payload bytes");
+        report("(all fields)", () -> taskRepository.findAll());
+        report("?fields=id,title,status", () -> taskRepository.findFields(
+                TaskFieldQuery.all(FieldSelection.ofTask("id,title,status"))));
+        report("?fields=id,title,status,assignedTo.id", () -> taskRepository.findFields(
+                TaskFieldQuery.all(FieldSelection.ofTask("id,title,status,assignedTo.id"))));
+        report("?fields=id,title,status,assignedTo.name", () -> taskRepository.findFields(
+                TaskFieldQuery.all(FieldSelection.ofTask("id,title,status,assignedTo.name"))));
+    }
+
+    @Test
+    void listUsers() throws Exception {
+        seed();
+        System.out.printf("%-45s %12s %14s%n", "GET /api/users", "median ms", "payload bytes");
+        report("(all fields)", () -> userRepository.findAll());
+        report("?fields=id,name", () -> userRepository.findFields(FieldSelection.ofUser("id,name"), null));
+    }
+
+    private void report(String label, Supplier<List<?>> query) throws Exception {
+        int bytes = 0;
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            bytes = run(query);
+        }
+        long[] nanos = new long[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            run(query);
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        System.out.printf("%-45s %12.1f %14d%n", label, nanos[MEASURED_RUNS / 2] / 1e6, bytes);
+    }
+
+    // a fresh persistence context each time, as in a request
+    private int run(Supplier<List<?>> query) throws Exception {
+        entityManager.clear();
+        return objectMapper.writeValueAsBytes(query.get()).length;
+    }
+
+    private void seed() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            User user = new User();
+            user.setName("Benchmark user " + i);
+            user.setEmail("benchmark" + i + "@example.com");
+            users.add(user);
+        }
+        userRepository.saveAll(users);
+
+        List<Task> tasks = new ArrayList<>();
+        TaskStatus[] statuses = TaskStatus.values();
+        for (int i = 0; i < TASKS; i++) {
+            Task task = new Task();
+            task.setTitle("Benchmark task " + i);
+            task.setDescription("Description of benchmark task " + i + ", long enough to resemble real input");
+            task.setStatus(statuses[i % statuses.length]);
+            task.setAssignedTo(i % 10 == 0 ? null : users.get(i % USERS));
+            tasks.add(task);
+        }
+        taskRepository.saveAll(tasks);
+        entityManager.flush();
+    }
+}
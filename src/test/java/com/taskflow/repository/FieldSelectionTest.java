@@ -0,0 +1,42 @@
+package com.taskflow.repository;
+
+import com.taskflow.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FieldSelectionTest {
+
+    @Test
+    void ofTask_ShouldKeepDeclarationOrder_AndExpandAssignee() {
+        FieldSelection fields = FieldSelection.ofTask(" status, id ,assignedTo");
+
+        assertEquals(List.of("id", "status"), fields.fields());
+        assertEquals(FieldSelection.USER_FIELDS, fields.assigneeFields());
+        assertTrue(fields.joinsAssignee());
+        assertNull(FieldSelection.ofTask(null));
+    }
+
+    @Test
+    void parse_ShouldRejectUnknownOrEmptyFields() {
+        assertThrows(BadRequestException.class, () -> FieldSelection.ofTask("id,secret"));
+        assertThrows(BadRequestException.class, () -> FieldSelection.ofTask("assignedTo.password"));
+        assertThrows(BadRequestException.class, () -> FieldSelection.ofUser("assignedTo.name"));
+        assertThrows(BadRequestException.class, () -> FieldSelection.ofUser(" , "));
+    }
+
+    @Test
+    void shape_ShouldNestAssigneeFields_AndLeaveMissingAssigneeNull() {
+        FieldSelection fields = FieldSelection.ofTask("title,assignedTo.name,assignedTo.id");
+
+        assertEquals(List.of("title", "assignedTo.id", "assignedTo.name"), fields.paths());
+        assertEquals(Map.of("title", "A", "assignedTo", Map.of("id", 3L, "name", "Ana")),
+                fields.shape(new Object[]{"A", 3L, "Ana"}));
+        Map<String, Object> unassigned = fields.shape(new Object[]{"B", null, null});
+        assertTrue(unassigned.containsKey("assignedTo"));
+        assertNull(unassigned.get("assignedTo"));
+    }
+}
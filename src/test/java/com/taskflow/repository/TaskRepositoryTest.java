@@ -1,26 +1,40 @@
 package com.taskflow.repository;
 
+import com.taskflow.config.QueryMonitoringConfig;
 import com.taskflow.model.Task;
 import com.taskflow.model.TaskStatus;
+import com.taskflow.model.User;
+import com.taskflow.monitoring.QueryScope;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import static com.taskflow.monitoring.QueryCountAssertions.assertMaxStatements;
 import static org.junit.jupiter.api.Assertions.*;
 
 @DataJpaTest
 @ActiveProfiles("test")
+@Import(QueryMonitoringConfig.class)
 class TaskRepositoryTest {
 
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
     private Task task;
 
     @BeforeEach
@@ -101,4 +115,180 @@ class TaskRepositoryTest {
         assertEquals(1, pendingTasks.size());
         assertEquals(TaskStatus.PENDING, pendingTasks.get(0).getStatus());
     }
-}
\ No newline at end of file
+
+    @Test
+    void findInboxByAssignedToId_ShouldReturnOnlyUserTasks() {
+        User user = new User();
+        user.setName("Inbox User");
+        user.setEmail("inbox@example.com");
+        userRepository.save(user);
+
+        task.setAssignedTo(user);
+        Task assigned = taskRepository.save(task);
+
+        Task other = new Task();
+        other.setTitle("Unassigned");
+        other.setStatus(TaskStatus.PENDING);
+        taskRepository.save(other);
+
+        List<TaskInboxView> result = taskRepository.findInboxByAssignedToId(user.getId());
+
+        assertEquals(1, result.size());
+        assertEquals(assigned.getId(), result.get(0).getId());
+        assertEquals(TaskStatus.PENDING, result.get(0).getStatus());
+    }
+
+    @Test
+    void findAllAnalyticsViews_ShouldIncludeUnassignedTasks() {
+        User user = new User();
+        user.setName("Analytics User");
+        user.setEmail("analytics@example.com");
+        userRepository.save(user);
+
+        task.setAssignedTo(user);
+        task.setStatus(TaskStatus.COMPLETED);
+        task.setCompletedAt(LocalDateTime.of(2025, 3, 1, 10, 0));
+        taskRepository.save(task);
+
+        Task other = new Task();
+        other.setTitle("Unassigned");
+        other.setStatus(TaskStatus.PENDING);
+        taskRepository.save(other);
+
+        List<TaskAnalyticsView> result = taskRepository.findAllAnalyticsViews();
+
+        assertEquals(2, result.size());
+        TaskAnalyticsView completed = result.stream()
+                .filter(view -> view.getStatus() == TaskStatus.COMPLETED)
+                .findFirst().orElseThrow();
+        assertEquals(user.getId(), completed.getAssigneeId());
+        assertEquals(task.getCompletedAt(), completed.getCompletedAt());
+        assertTrue(result.stream().anyMatch(view -> view.getAssigneeId() == null));
+    }
+
+    @Test
+    void findOpenTasksDueBetween_AndMarkOverdue_ShouldOnlyTouchOpenTasks() {
+        LocalDateTime now = LocalDateTime.of(2025, 3, 1, 9, 0);
+        task.setDueAt(now.minusMinutes(1));
+        taskRepository.save(task);
+
+        Task completed = new Task();
+        completed.setTitle("Completed task");
+        completed.setStatus(TaskStatus.COMPLETED);
+        completed.setDueAt(now.minusMinutes(1));
+        taskRepository.save(completed);
+
+        Task later = new Task();
+        later.setTitle("Later task");
+        later.setStatus(TaskStatus.IN_PROGRESS);
+        later.setDueAt(now.plusDays(30));
+        taskRepository.save(later);
+
+        List<TaskDueView> due = taskRepository.findOpenTasksDueBetween(now.minusDays(1), now.plusDays(1));
+
+        assertEquals(List.of(task.getId()), due.stream().map(TaskDueView::getId).toList());
+        assertEquals(1, taskRepository.markOverdue(task.getId(), now));
+        assertEquals(0, taskRepository.markOverdue(task.getId(), now));
+        assertEquals(0, taskRepository.markOverdue(completed.getId(), now));
+        assertEquals(0, taskRepository.markOverdue(later.getId(), now));
+        assertTrue(taskRepository.findById(task.getId()).orElseThrow().isOverdue());
+        assertTrue(taskRepository.findOpenTasksDueBetween(now.minusDays(1), now.plusDays(1)).isEmpty());
+    }
+
+    @Test
+    void save_ShouldNotOverwriteOverdue_SetSinceTheTaskWasRead() {
+        LocalDateTime now = LocalDateTime.of(2025, 3, 1, 9, 0);
+        task.setDueAt(now.minusMinutes(1));
+        taskRepository.save(task);
+        entityManager.flush();
+        entityManager.clear();
+        Task stale = taskRepository.findById(task.getId()).orElseThrow();
+
+        assertEquals(1, taskRepository.markOverdue(task.getId(), now));
+        stale.setTitle("Renamed task");
+        taskRepository.save(stale);
+        entityManager.flush();
+        entityManager.clear();
+
+        Task stored = taskRepository.findById(task.getId()).orElseThrow();
+        assertEquals("Renamed task", stored.getTitle());
+        assertTrue(stored.isOverdue());
+        assertEquals(1, taskRepository.clearOverdue(task.getId()));
+        assertFalse(taskRepository.findById(task.getId()).orElseThrow().isOverdue());
+    }
+
+    @Test
+    void findAll_ShouldLoadAssigneesInSingleStatement() {
+        for (int i = 0; i < 3; i++) {
+            User user = new User();
+            user.setName("User " + i);
+            user.setEmail("user" + i + "@example.com");
+            userRepository.save(user);
+
+            Task assigned = new Task();
+            assigned.setTitle("Task " + i);
+            assigned.setStatus(TaskStatus.PENDING);
+            assigned.setAssignedTo(user);
+            taskRepository.save(assigned);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Task> result = assertMaxStatements(1, () -> taskRepository.findAll());
+
+        assertEquals(3, result.size());
+        assertNotNull(result.get(0).getAssignedTo().getName());
+    }
+
+    @Test
+    void findFields_ShouldSelectOnlyRequestedColumns_WithoutJoiningAssignee() {
+        User user = new User();
+        user.setName("Assignee");
+        user.setEmail("assignee@example.com");
+        userRepository.save(user);
+        task.setAssignedTo(user);
+        taskRepository.save(task);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Map<String, Object>> result;
+        List<String> statements;
+        try (QueryScope scope = QueryScope.open("test")) {
+            result = taskRepository.findFields(TaskFieldQuery.all(FieldSelection.ofTask("title,id,assignedTo.id")));
+            statements = scope.statements();
+        }
+
+        assertEquals(1, statements.size());
+        String sql = statements.get(0).toLowerCase();
+        assertFalse(sql.contains("join"), sql);
+        assertFalse(sql.contains("description"), sql);
+        assertEquals(List.of(Map.of("id", task.getId(), "title", "Test Task", "assignedTo", Map.of("id", user.getId()))),
+                result);
+        assertEquals(List.of("id", "title", "assignedTo"), List.copyOf(result.get(0).keySet()));
+    }
+
+    @Test
+    void findFields_ShouldJoinAssignee_WhenAssigneeFieldsAreRequested() {
+        User user = new User();
+        user.setName("Assignee");
+        user.setEmail("assignee@example.com");
+        userRepository.save(user);
+        task.setAssignedTo(user);
+        taskRepository.save(task);
+        Task unassigned = new Task();
+        unassigned.setTitle("Test unassigned");
+        unassigned.setStatus(TaskStatus.COMPLETED);
+        taskRepository.save(unassigned);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Map<String, Object>> result = assertMaxStatements(1, () -> taskRepository.findFields(
+                TaskFieldQuery.titleContaining(FieldSelection.ofTask("status,assignedTo.name"), "test")));
+
+        assertEquals(2, result.size());
+        assertEquals(TaskStatus.PENDING, result.get(0).get("status"));
+        assertEquals(Map.of("name", "Assignee"), result.get(0).get("assignedTo"));
+        assertTrue(result.get(1).containsKey("assignedTo"));
+        assertNull(result.get(1).get("assignedTo"));
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -94,4 +95,19 @@ class UserRepositoryTest {
         assertEquals("Test User", result.get().getName());
         assertEquals("test@example.com", result.get().getEmail());
     }
-}
\ No newline at end of file
+
+    @Test
+    void findFields_ShouldReturnOnlyRequestedFieldsOfRequestedUsers() {
+        userRepository.save(user);
+        User other = new User();
+        other.setName("Other User");
+        other.setEmail("other@example.com");
+        userRepository.save(other);
+
+        List<Map<String, Object>> result = userRepository.findFields(FieldSelection.ofUser("name, id"),
+                List.of(user.getId()));
+
+        assertEquals(List.of(Map.of("id", user.getId(), "name", "Test User")), result);
+        assertEquals(2, userRepository.findFields(FieldSelection.ofUser("email"), null).size());
+    }
+}
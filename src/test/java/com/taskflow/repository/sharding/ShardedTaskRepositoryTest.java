@@ -0,0 +1,343 @@
+package com.taskflow.repository.sharding;
+
+import com.taskflow.config.QueryMonitoringProperties;
+import com.taskflow.model.Task;
+import com.taskflow.model.TaskStatus;
+import com.taskflow.model.User;
+import com.taskflow.monitoring.QueryInspectingDataSource;
+import com.taskflow.monitoring.QueryMonitor;
+import com.taskflow.repository.FieldSelection;
+import com.taskflow.repository.TaskFieldQuery;
+import com.taskflow.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static com.taskflow.monitoring.QueryCountAssertions.assertMaxStatements;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ShardedTaskRepositoryTest {
+
+    private static final int SHARDS = 3;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private ShardedTaskRepository repository;
+
+    private String run;
+
+    @BeforeEach
+    void setUp() {
+        QueryMonitor queryMonitor = new QueryMonitor(new QueryMonitoringProperties(500, 50));
+        List<DataSource> dataSources = new ArrayList<>();
+        run = UUID.randomUUID().toString();
+        for (int i = 0; i < SHARDS; i++) {
+            dataSources.add(new QueryInspectingDataSource(shardDataSource(i), queryMonitor));
+        }
+        repository = new ShardedTaskRepository(dataSources, userRepository, 4);
+
+        lenient().when(userRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            List<User> users = new ArrayList<>();
+            for (Long id : invocation.<Iterable<Long>>getArgument(0)) {
+                users.add(user(id));
+            }
+            return users;
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        repository.close();
+    }
+
+    @Test
+    void save_ShouldPlaceTasksOfAnAssigneeOnOneShard_AndEncodeShardInId() {
+        Set<Integer> shardsOfUser = new HashSet<>();
+        for (int i = 0; i < 5; i++) {
+            shardsOfUser.add(ShardIds.shardOf(repository.save(task("Task " + i, 7L)).getId()));
+        }
+
+        assertEquals(Set.of(ShardIds.shardFor(7L, SHARDS)), shardsOfUser);
+    }
+
+    @Test
+    void findById_ShouldReturnTaskWithAssignee() {
+        Task saved = repository.save(task("Find me", 4L));
+
+        Task result = repository.findById(saved.getId()).orElseThrow();
+
+        assertEquals("Find me", result.getTitle());
+        assertEquals("User 4", result.getAssignedTo().getName());
+        assertTrue(repository.findById(saved.getId() + ShardIds.MAX_SHARDS * 1000L).isEmpty());
+    }
+
+    @Test
+    void findByAssignedToId_ShouldQuerySingleShard() {
+        for (long user = 1; user <= 6; user++) {
+            repository.save(task("Task of " + user, user));
+            repository.save(task("Other task of " + user, user));
+        }
+
+        List<Task> result = assertMaxStatements(1, () -> repository.findByAssignedToId(2L));
+
+        assertEquals(2, result.size());
+        assertTrue(result.stream().allMatch(task -> task.getAssignedTo().getId() == 2L));
+    }
+
+    @Test
+    void findAll_ShouldMergeAllShards() {
+        List<Long> ids = new ArrayList<>();
+        for (long user = 1; user <= 12; user++) {
+            ids.add(repository.save(task("Task " + user, user)).getId());
+        }
+        ids.add(repository.save(task("Unassigned", null)).getId());
+
+        List<Task> result = repository.findAll();
+
+        assertEquals(Set.copyOf(ids), result.stream().map(Task::getId).collect(Collectors.toSet()));
+        assertTrue(result.stream().map(Task::getId).map(ShardIds::shardOf).distinct().count() > 1);
+        assertEquals(13, repository.count());
+    }
+
+    @Test
+    void findByStatusAndTitle_ShouldFanOutAndFilter() {
+        Task done = task("Write report", 1L);
+        done.setStatus(TaskStatus.COMPLETED);
+        repository.save(done);
+        repository.save(task("Review REPORT", 2L));
+        repository.save(task("Plan 100% of sprint", 3L));
+
+        assertEquals(1, repository.findByStatus(TaskStatus.COMPLETED).size());
+        assertEquals(2, repository.findByTitleContainingIgnoreCase("report").size());
+        assertEquals(1, repository.findByTitleContainingIgnoreCase("100%").size());
+    }
+
+    @Test
+    void save_ShouldMoveTaskToNewShard_WhenReassigned() {
+        long from = 1L;
+        long to = from + 1;
+        while (ShardIds.shardFor(to, SHARDS) == ShardIds.shardFor(from, SHARDS)) {
+            to++;
+        }
+        Task saved = repository.save(task("Moving task", from));
+        Long oldId = saved.getId();
+
+        saved.setAssignedTo(user(to));
+        Task moved = repository.save(saved);
+
+        assertNotEquals(oldId, moved.getId());
+        assertEquals(ShardIds.shardFor(to, SHARDS), ShardIds.shardOf(moved.getId()));
+        assertTrue(repository.findById(oldId).isEmpty());
+        assertEquals(1, repository.findByAssignedToId(to).size());
+        assertTrue(repository.findByAssignedToId(from).isEmpty());
+    }
+
+    @Test
+    void save_ShouldKeepTaskOnOldShard_WhenInsertOnNewShardFails() {
+        long from = 1L;
+        long to = from + 1;
+        while (ShardIds.shardFor(to, SHARDS) == ShardIds.shardFor(from, SHARDS)) {
+            to++;
+        }
+        Task saved = repository.save(task("Moving task", from));
+        Long oldId = saved.getId();
+
+        saved.setAssignedTo(user(to));
+        saved.setTitle("x".repeat(101));
+        assertThrows(RuntimeException.class, () -> repository.save(saved));
+
+        assertEquals("Moving task", repository.findById(oldId).orElseThrow().getTitle());
+        assertTrue(repository.findByAssignedToId(to).isEmpty());
+    }
+
+    @Test
+    void save_ShouldNotLeaveTaskOnBothShards_WhenDeleteOnOldShardFails() {
+        long from = 1L;
+        long to = from + 1;
+        while (ShardIds.shardFor(to, SHARDS) == ShardIds.shardFor(from, SHARDS)) {
+            to++;
+        }
+        Task saved = repository.save(task("Moving task", from));
+        Long oldId = saved.getId();
+        // a row referencing the task makes deleting it on the old shard fail
+        JdbcTemplate oldShard = new JdbcTemplate(shardDataSource(ShardIds.shardOf(oldId)));
+        oldShard.execute("create table task_ref (task_id bigint references task (id))");
+        oldShard.update("insert into task_ref values (?)", ShardIds.localId(oldId));
+
+        saved.setAssignedTo(user(to));
+        assertThrows(RuntimeException.class, () -> repository.save(saved));
+
+        assertEquals(oldId, saved.getId());
+        assertTrue(repository.findById(oldId).isPresent());
+        assertTrue(repository.findByAssignedToId(to).isEmpty());
+        assertEquals(1, repository.count());
+    }
+
+    @Test
+    void findAll_ShouldReleaseShardWorkers_WhenMergeFailsPartway() {
+        int rows = SHARDS * (ShardedTaskRepository.MERGE_BUFFER_SIZE + ShardedTaskRepository.ASSIGNEE_BATCH_SIZE);
+        for (int i = 0; i < rows; i++) {
+            repository.save(task("Task " + i, (long) (i % 30) + 1));
+        }
+        AtomicInteger lookups = new AtomicInteger();
+        when(userRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            if (lookups.getAndIncrement() == 0) {
+                throw new IllegalStateException("user lookup failed");
+            }
+            List<User> users = new ArrayList<>();
+            for (Long id : invocation.<Iterable<Long>>getArgument(0)) {
+                users.add(user(id));
+            }
+            return users;
+        });
+
+        assertThrows(IllegalStateException.class, () -> repository.findAll());
+
+        List<Task> result = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> repository.findAll());
+        assertEquals(rows, result.size());
+    }
+
+    @Test
+    void count_ShouldNotWaitForAStalledScan() throws Exception {
+        int rows = SHARDS * (ShardedTaskRepository.MERGE_BUFFER_SIZE + ShardedTaskRepository.ASSIGNEE_BATCH_SIZE);
+        for (int i = 0; i < rows; i++) {
+            repository.save(task("Task " + i, (long) (i % 30) + 1));
+        }
+        CountDownLatch hydrating = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(userRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            hydrating.countDown();
+            release.await();
+            return List.of();
+        });
+        CompletableFuture<List<Task>> scan = CompletableFuture.supplyAsync(repository::findAll);
+        try {
+            assertTrue(hydrating.await(10, TimeUnit.SECONDS));
+
+            // the scan's workers are blocked on the full merge buffer
+            assertEquals(rows, assertTimeoutPreemptively(Duration.ofSeconds(5), () -> repository.count()));
+        } finally {
+            release.countDown();
+        }
+        assertEquals(rows, scan.get(10, TimeUnit.SECONDS).size());
+    }
+
+    @Test
+    void save_ShouldNotOverwriteOverdue_SetSinceTheTaskWasRead() {
+        LocalDateTime now = LocalDateTime.of(2025, 3, 1, 9, 0);
+        Task saved = task("Due task", 3L);
+        saved.setDueAt(now.minusMinutes(1));
+        repository.save(saved);
+        Task stale = repository.findById(saved.getId()).orElseThrow();
+
+        assertEquals(1, repository.markOverdue(saved.getId(), now));
+        stale.setTitle("Renamed task");
+        repository.save(stale);
+
+        assertTrue(repository.findById(saved.getId()).orElseThrow().isOverdue());
+        assertEquals(1, repository.clearOverdue(saved.getId()));
+        assertFalse(repository.findById(saved.getId()).orElseThrow().isOverdue());
+    }
+
+    @Test
+    void deleteById_ShouldRemoveTask() {
+        Task saved = repository.save(task("Delete me", 5L));
+
+        repository.deleteById(saved.getId());
+
+        assertFalse(repository.existsById(saved.getId()));
+    }
+
+    @Test
+    void findFields_ShouldHydrateRequestedAssigneeFieldsOnly() {
+        Task saved = repository.save(task("Sparse", 4L));
+        repository.save(task("Unassigned", null));
+        when(userRepository.findFields(any(), anyCollection())).thenReturn(
+                List.of(Map.of("id", 4L, "name", "User 4")));
+
+        List<Map<String, Object>> all = repository.findFields(TaskFieldQuery.all(FieldSelection.ofTask("id,assignedTo.name")));
+        Map<String, Object> byId = repository.findFields(TaskFieldQuery.byId(FieldSelection.ofTask("title,assignedTo.id"),
+                saved.getId())).get(0);
+
+        assertEquals(2, all.size());
+        assertTrue(all.contains(Map.of("id", saved.getId(), "assignedTo", Map.of("name", "User 4"))));
+        assertEquals(Map.of("title", "Sparse", "assignedTo", Map.of("id", 4L)), byId);
+        verify(userRepository, times(1)).findFields(any(), anyCollection());
+    }
+
+    @Test
+    void findFields_ShouldMergeShardsInIdOrder() {
+        Map<Long, String> titles = new TreeMap<>();
+        for (long user = 1; user <= 12; user++) {
+            Task saved = repository.save(task("Task " + user, user));
+            titles.put(saved.getId(), saved.getTitle());
+        }
+
+        List<Map<String, Object>> result = repository.findFields(TaskFieldQuery.all(FieldSelection.ofTask("title")));
+
+        assertEquals(List.copyOf(titles.values()), result.stream().map(row -> row.get("title")).toList());
+        assertEquals(Set.of("title"), result.get(0).keySet());
+    }
+
+    @Test
+    void findAll_ShouldReturnTheOrderOfFindFields() {
+        for (long user = 1; user <= 12; user++) {
+            repository.save(task("Task " + user, user));
+        }
+
+        List<Map<String, Object>> fields = repository.findFields(TaskFieldQuery.all(FieldSelection.ofTask("id")));
+
+        assertEquals(fields.stream().map(row -> row.get("id")).toList(),
+                repository.findAll().stream().map(Task::getId).toList());
+    }
+
+    private static Task task(String title, Long assigneeId) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setStatus(TaskStatus.PENDING);
+        if (assigneeId != null) {
+            task.setAssignedTo(user(assigneeId));
+        }
+        return task;
+    }
+
+    private static User user(Long id) {
+        User user = new User();
+        user.setId(id);
+        user.setName("User " + id);
+        user.setEmail("user" + id + "@example.com");
+        return user;
+    }
+
+    private DataSource shardDataSource(int shard) {
+        return new DriverManagerDataSource("jdbc:h2:mem:shard" + shard + "-" + run + ";DB_CLOSE_DELAY=-1");
+    }
+}
@@ -0,0 +1,185 @@
+package com.taskflow.service;
+
+import com.taskflow.dto.TaskInboxPage;
+import com.taskflow.event.TaskChangedEvent;
+import com.taskflow.event.TaskSnapshot;
+import com.taskflow.exception.BadRequestException;
+import com.taskflow.model.Task;
+import com.taskflow.model.TaskStatus;
+import com.taskflow.repository.TaskInboxView;
+import com.taskflow.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskInboxServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private TaskInboxService taskInboxService;
+
+    @BeforeEach
+    void setUp() {
+        taskInboxService = new TaskInboxService(taskRepository, 2, Duration.ofHours(1));
+        lenient().when(taskRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            List<Task> tasks = new ArrayList<>();
+            for (Long id : invocation.<Iterable<Long>>getArgument(0)) {
+                Task task = new Task();
+                task.setId(id);
+                tasks.add(task);
+            }
+            return tasks;
+        });
+    }
+
+    @Test
+    void getInbox_ShouldOrderByStatusPriorityThenRecency() {
+        when(taskRepository.findInboxByAssignedToId(1L)).thenReturn(List.of(
+                view(1L, TaskStatus.COMPLETED, NOW),
+                view(2L, TaskStatus.PENDING, NOW.minusDays(1)),
+                view(3L, TaskStatus.IN_PROGRESS, NOW.minusDays(2)),
+                view(4L, TaskStatus.PENDING, NOW)));
+
+        TaskInboxPage result = taskInboxService.getInbox(1L, null, null);
+
+        assertEquals(List.of(3L, 4L, 2L, 1L), ids(result));
+        assertEquals(4, result.total());
+        assertEquals(2, result.counts().get(TaskStatus.PENDING));
+        assertNull(result.nextCursor());
+    }
+
+    @Test
+    void getInbox_ShouldReload_WhenCachedInboxIsOlderThanMaxAge() {
+        TaskInboxService service = new TaskInboxService(taskRepository, 2, Duration.ZERO);
+        when(taskRepository.findInboxByAssignedToId(1L))
+                .thenReturn(List.of(view(1L, TaskStatus.PENDING, NOW)))
+                .thenReturn(List.of(view(1L, TaskStatus.PENDING, NOW), view(2L, TaskStatus.PENDING, NOW)));
+
+        service.getInbox(1L, null, null);
+        TaskInboxPage reloaded = service.getInbox(1L, null, null);
+
+        assertEquals(2, reloaded.total());
+        verify(taskRepository, times(2)).findInboxByAssignedToId(1L);
+    }
+
+    @Test
+    void getInbox_ShouldPaginateWithCursor() {
+        when(taskRepository.findInboxByAssignedToId(1L)).thenReturn(List.of(
+                view(1L, TaskStatus.PENDING, NOW.minusDays(3)),
+                view(2L, TaskStatus.PENDING, NOW.minusDays(2)),
+                view(3L, TaskStatus.PENDING, NOW.minusDays(1))));
+
+        TaskInboxPage first = taskInboxService.getInbox(1L, null, 2);
+        TaskInboxPage second = taskInboxService.getInbox(1L, first.nextCursor(), 2);
+
+        assertEquals(List.of(3L, 2L), ids(first));
+        assertEquals(List.of(1L), ids(second));
+        assertNull(second.nextCursor());
+        verify(taskRepository, times(1)).findInboxByAssignedToId(1L);
+    }
+
+    @Test
+    void onTaskChanged_ShouldMoveTaskBetweenUsers_WhenReassigned() {
+        when(taskRepository.findInboxByAssignedToId(1L)).thenReturn(List.of(view(1L, TaskStatus.PENDING, NOW)));
+        when(taskRepository.findInboxByAssignedToId(2L)).thenReturn(List.of());
+        taskInboxService.getInbox(1L, null, null);
+        taskInboxService.getInbox(2L, null, null);
+
+        taskInboxService.onTaskChanged(TaskChangedEvent.updated(
+                snapshot(1L, TaskStatus.PENDING, 1L),
+                snapshot(1L, TaskStatus.IN_PROGRESS, 2L)));
+
+        assertEquals(0, taskInboxService.getInbox(1L, null, null).total());
+        TaskInboxPage result = taskInboxService.getInbox(2L, null, null);
+        assertEquals(List.of(1L), ids(result));
+        assertEquals(1, result.counts().get(TaskStatus.IN_PROGRESS));
+        assertEquals(0, result.counts().get(TaskStatus.PENDING));
+    }
+
+    @Test
+    void onTaskChanged_ShouldRemoveTask_WhenDeleted() {
+        when(taskRepository.findInboxByAssignedToId(1L)).thenReturn(List.of(view(1L, TaskStatus.PENDING, NOW)));
+        taskInboxService.getInbox(1L, null, null);
+
+        taskInboxService.onTaskChanged(TaskChangedEvent.deleted(snapshot(1L, TaskStatus.PENDING, 1L)));
+
+        assertEquals(0, taskInboxService.getInbox(1L, null, null).total());
+    }
+
+    @Test
+    void getInbox_ShouldEvictLeastRecentlyReadInbox_WhenCacheIsFull() {
+        when(taskRepository.findInboxByAssignedToId(anyLong())).thenReturn(List.of());
+
+        taskInboxService.getInbox(1L, null, null);
+        taskInboxService.getInbox(2L, null, null);
+        taskInboxService.getInbox(1L, null, null);
+        taskInboxService.getInbox(3L, null, null);
+        taskInboxService.getInbox(1L, null, null);
+        taskInboxService.getInbox(2L, null, null);
+
+        assertEquals(2, taskInboxService.cachedInboxes());
+        verify(taskRepository, times(1)).findInboxByAssignedToId(1L);
+        verify(taskRepository, times(2)).findInboxByAssignedToId(2L);
+    }
+
+    @Test
+    void getInbox_ShouldReplayChangesReceivedWhileLoading() {
+        when(taskRepository.findInboxByAssignedToId(1L)).thenAnswer(invocation -> {
+            taskInboxService.onTaskChanged(TaskChangedEvent.created(snapshot(2L, TaskStatus.PENDING, 1L)));
+            return List.of(view(1L, TaskStatus.PENDING, NOW));
+        });
+
+        TaskInboxPage result = taskInboxService.getInbox(1L, null, null);
+
+        assertEquals(2, result.total());
+        assertEquals(List.of(1L, 2L), ids(result).stream().sorted().toList());
+    }
+
+    @Test
+    void getInbox_ShouldThrowException_WhenCursorIsInvalid() {
+        assertThrows(BadRequestException.class, () -> taskInboxService.getInbox(1L, "not-a-cursor", 10));
+    }
+
+    private static List<Long> ids(TaskInboxPage page) {
+        return page.tasks().stream().map(Task::getId).toList();
+    }
+
+    private static TaskSnapshot snapshot(Long id, TaskStatus status, Long assigneeId) {
+        return new TaskSnapshot(id, "task " + id, null, status, assigneeId, NOW, null, null);
+    }
+
+    private static TaskInboxView view(Long id, TaskStatus status, LocalDateTime createdAt) {
+        return new TaskInboxView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public TaskStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public LocalDateTime getCreatedAt() {
+                return createdAt;
+            }
+        };
+    }
+}
@@ -0,0 +1,114 @@
+package com.taskflow.service;
+
+import com.taskflow.config.InboxProperties;
+import com.taskflow.config.QueryMonitoringConfig;
+import com.taskflow.dto.TaskInboxPage;
+import com.taskflow.model.Task;
+import com.taskflow.model.TaskStatus;
+import com.taskflow.model.User;
+import com.taskflow.repository.TaskRepository;
+import com.taskflow.repository.UserRepository;
+import com.taskflow.service.audit.TaskAuditService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static com.taskflow.monitoring.QueryCountAssertions.assertMaxStatements;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pins the number of statements of the task read paths, so that an N+1 on the assignee
+ * shows up as a test failure rather than in production.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({QueryMonitoringConfig.class, TaskService.class, TaskInboxService.class})
+@EnableConfigurationProperties(InboxProperties.class)
+class TaskServiceQueryCountTest {
+
+    private static final int USERS = 5;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @MockBean
+    private TaskAuditService taskAuditService;
+
+    private User firstUser;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < USERS; i++) {
+            User user = new User();
+            user.setName("User " + i);
+            user.setEmail("user" + i + "@example.com");
+            userRepository.save(user);
+            if (firstUser == null) {
+                firstUser = user;
+            }
+            for (int j = 0; j < 3; j++) {
+                Task task = new Task();
+                task.setTitle("Report " + i + "-" + j);
+                task.setStatus(j == 0 ? TaskStatus.IN_PROGRESS : TaskStatus.PENDING);
+                task.setAssignedTo(i == 0 ? firstUser : user);
+                taskRepository.save(task);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void getAllTasks_ShouldUseOneStatement() {
+        List<Task> result = assertMaxStatements(1, () -> taskService.getAllTasks());
+
+        assertEquals(USERS * 3, result.size());
+        assertTrue(result.stream().allMatch(task -> task.getAssignedTo().getName() != null));
+    }
+
+    @Test
+    void getTasksByUserId_ShouldUseOneStatement() {
+        List<Task> result = assertMaxStatements(1, () -> taskService.getTasksByUserId(firstUser.getId()));
+
+        assertEquals(3, result.size());
+        assertEquals("User 0", result.get(0).getAssignedTo().getName());
+    }
+
+    @Test
+    void searchTasksByTitle_ShouldUseOneStatement() {
+        List<Task> result = assertMaxStatements(1, () -> taskService.searchTasksByTitle("report"));
+
+        assertEquals(USERS * 3, result.size());
+        assertTrue(result.stream().allMatch(task -> task.getAssignedTo().getEmail() != null));
+    }
+
+    @Test
+    void getTaskInbox_ShouldLoadOnceThenOnlyFetchThePage() {
+        TaskInboxPage first = assertMaxStatements(2, () -> taskService.getTaskInbox(firstUser.getId(), null, 2));
+        entityManager.clear();
+        TaskInboxPage second = assertMaxStatements(1,
+                () -> taskService.getTaskInbox(firstUser.getId(), first.nextCursor(), 2));
+
+        assertEquals(3, first.total());
+        assertEquals(2, first.tasks().size());
+        assertEquals(1, second.tasks().size());
+        assertNotNull(second.tasks().get(0).getAssignedTo().getName());
+    }
+}
@@ -1,13 +1,16 @@
 package com.taskflow.service;
 
+import com.taskflow.event.TaskChangedEvent;
 import com.taskflow.exception.ResourceNotFoundException;
 import com.taskflow.model.Task;
 import com.taskflow.model.TaskStatus;
 import com.taskflow.repository.TaskRepository;
+import com.taskflow.service.audit.TaskAuditService;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -23,6 +26,15 @@ class TaskServiceTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private TaskInboxService taskInboxService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TaskAuditService taskAuditService;
+
     @InjectMocks
     private TaskService taskService;
 
@@ -80,6 +92,7 @@ class TaskServiceTest {
         assertNotNull(result);
         assertEquals(task.getTitle(), result.getTitle());
         verify(taskRepository, times(1)).save(any(Task.class));
+        verify(eventPublisher, times(1)).publishEvent(any(TaskChangedEvent.class));
     }
 
     @Test
@@ -110,6 +123,46 @@ class TaskServiceTest {
         verify(taskRepository, times(1)).save(existingTask);
     }
 
+    @Test
+    void updateTask_ShouldPublishPreviousAndNewState() {
+        Task updatedData = new Task();
+        updatedData.setTitle("Updated task");
+        updatedData.setStatus(TaskStatus.COMPLETED);
+
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        taskService.updateTask(1L, updatedData);
+
+        ArgumentCaptor<TaskChangedEvent> captor = ArgumentCaptor.forClass(TaskChangedEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(captor.capture());
+        assertEquals(TaskStatus.PENDING, captor.getValue().before().status());
+        assertEquals(TaskStatus.COMPLETED, captor.getValue().after().status());
+        assertNull(captor.getValue().before().completedAt());
+        assertNotNull(captor.getValue().after().completedAt());
+    }
+
+    @Test
+    void updateTask_ShouldClearOverdueOnlyWhenDueDateChanges() {
+        LocalDateTime dueAt = LocalDateTime.of(2025, 3, 1, 9, 0);
+        task.setDueAt(dueAt);
+        Task sameDueDate = new Task();
+        sameDueDate.setTitle("Renamed task");
+        sameDueDate.setDueAt(dueAt);
+        Task newDueDate = new Task();
+        newDueDate.setTitle("Renamed task");
+        newDueDate.setDueAt(dueAt.plusDays(1));
+
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        taskService.updateTask(1L, sameDueDate);
+        verify(taskRepository, never()).clearOverdue(any());
+
+        taskService.updateTask(1L, newDueDate);
+        verify(taskRepository, times(1)).clearOverdue(1L);
+    }
+
     @Test
     void updateTask_WhenTaskNotExists_ShouldThrowException() {
 
@@ -152,6 +205,15 @@ class TaskServiceTest {
             taskService.deleteTask(999L);
         });
         verify(taskRepository, times(1)).findById(999L);
-        verify(taskRepository, never()).delete(any(Task.class));
+        verify(taskRepository, never()).deleteById(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void getTaskHistory_WhenTaskNeverExisted_ShouldThrowException() {
+        when(taskAuditService.history(999L)).thenReturn(List.of());
+        when(taskRepository.existsById(999L)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class, () -> taskService.getTaskHistory(999L));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,107 @@
+package com.taskflow.service;
+
+import com.taskflow.config.InboxProperties;
+import com.taskflow.event.TaskChangedEvent;
+import com.taskflow.model.Task;
+import com.taskflow.model.TaskStatus;
+import com.taskflow.repository.TaskRepository;
+import com.taskflow.service.audit.TaskAuditService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Component;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+
+/**
+ * Runs the service outside a test transaction, so that what it commits and when its
+ * listeners run are what production sees.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({TaskService.class, TaskInboxService.class, TaskServiceTransactionTest.ChangeRecorder.class})
+@EnableConfigurationProperties(InboxProperties.class)
+class TaskServiceTransactionTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @SpyBean
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ChangeRecorder changes;
+
+    @MockBean
+    private TaskAuditService taskAuditService;
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll();
+    }
+
+    @Test
+    void updateTask_ShouldCommitNothingAndPublishNothing_WhenClearingOverdueFails() {
+        Task task = taskService.createTask(task("Write report", LocalDateTime.of(2026, 1, 1, 9, 0)));
+        changes.events.clear();
+        doThrow(new QueryTimeoutException("refused")).when(taskRepository).clearOverdue(anyLong());
+
+        assertThrows(QueryTimeoutException.class, () -> taskService.updateTask(task.getId(),
+                task("Write final report", LocalDateTime.of(2026, 2, 1, 9, 0))));
+
+        Task stored = taskRepository.findById(task.getId()).orElseThrow();
+        assertEquals("Write report", stored.getTitle());
+        assertEquals(LocalDateTime.of(2026, 1, 1, 9, 0), stored.getDueAt());
+        assertTrue(changes.events.isEmpty());
+    }
+
+    @Test
+    void updateTask_ShouldPublishCommittedChange_WhenDueDateMoves() {
+        Task task = taskService.createTask(task("Write report", LocalDateTime.of(2026, 1, 1, 9, 0)));
+        changes.events.clear();
+
+        taskService.updateTask(task.getId(), task("Write final report", LocalDateTime.of(2026, 2, 1, 9, 0)));
+
+        Task stored = taskRepository.findById(task.getId()).orElseThrow();
+        assertEquals("Write final report", stored.getTitle());
+        assertEquals(LocalDateTime.of(2026, 2, 1, 9, 0), stored.getDueAt());
+        assertEquals(1, changes.events.size());
+        assertEquals("Write final report", changes.events.get(0).after().title());
+    }
+
+    private static Task task(String title, LocalDateTime dueAt) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setStatus(TaskStatus.PENDING);
+        task.setDueAt(dueAt);
+        return task;
+    }
+
+    @Component
+    static class ChangeRecorder {
+
+        final List<TaskChangedEvent> events = new ArrayList<>();
+
+        @TransactionalEventListener(fallbackExecution = true)
+        public void onTaskChanged(TaskChangedEvent event) {
+            events.add(event);
+        }
+    }
+}
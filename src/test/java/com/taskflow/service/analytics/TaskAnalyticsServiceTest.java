@@ -0,0 +1,220 @@
+package com.taskflow.service.analytics;
+
+import com.taskflow.dto.CompletionTimeDistribution;
+import com.taskflow.dto.DailyTaskCounts;
+import com.taskflow.dto.UserTaskCounts;
+import com.taskflow.event.TaskChangedEvent;
+import com.taskflow.event.TaskSnapshot;
+import com.taskflow.exception.BadRequestException;
+import com.taskflow.model.TaskStatus;
+import com.taskflow.repository.TaskAnalyticsView;
+import com.taskflow.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskAnalyticsServiceTest {
+
+    private static final LocalDateTime DAY_1 = LocalDateTime.of(2025, 3, 1, 9, 0);
+    private static final LocalDateTime DAY_2 = DAY_1.plusDays(1);
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private TaskAnalyticsService analyticsService;
+
+    @BeforeEach
+    void setUp() {
+        // two rows per chunk so that even small tests are scanned in parallel and merged
+        analyticsService = new TaskAnalyticsService(taskRepository, new TaskColumnStore(2));
+    }
+
+    @Test
+    void countByStatus_ShouldCountEveryTask() {
+        when(taskRepository.findAllAnalyticsViews()).thenReturn(List.of(
+                view(1L, TaskStatus.PENDING, 1L, DAY_1, null),
+                view(2L, TaskStatus.PENDING, 2L, DAY_1, null),
+                view(3L, TaskStatus.COMPLETED, 1L, DAY_1, DAY_2),
+                view(4L, TaskStatus.IN_PROGRESS, null, DAY_2, null),
+                view(5L, TaskStatus.CANCELLED, 2L, DAY_2, null)));
+
+        Map<TaskStatus, Long> result = analyticsService.countByStatus();
+
+        assertEquals(Map.of(TaskStatus.PENDING, 2L, TaskStatus.IN_PROGRESS, 1L,
+                TaskStatus.COMPLETED, 1L, TaskStatus.CANCELLED, 1L), result);
+    }
+
+    @Test
+    void countPerDay_ShouldCountCreatedAndCompletedWithinRange() {
+        when(taskRepository.findAllAnalyticsViews()).thenReturn(List.of(
+                view(1L, TaskStatus.COMPLETED, 1L, DAY_1, DAY_2),
+                view(2L, TaskStatus.COMPLETED, 1L, DAY_1, DAY_1.plusHours(2)),
+                view(3L, TaskStatus.PENDING, 1L, DAY_2, null),
+                view(4L, TaskStatus.PENDING, 1L, DAY_1.minusDays(10), null)));
+
+        List<DailyTaskCounts> result = analyticsService.countPerDay(DAY_1.toLocalDate(), DAY_2.toLocalDate());
+
+        assertEquals(List.of(
+                new DailyTaskCounts(DAY_1.toLocalDate(), 2, 1),
+                new DailyTaskCounts(DAY_2.toLocalDate(), 1, 1)), result);
+    }
+
+    @Test
+    void countPerUser_ShouldGroupByAssignee_AndSkipUnassigned() {
+        when(taskRepository.findAllAnalyticsViews()).thenReturn(List.of(
+                view(1L, TaskStatus.PENDING, 7L, DAY_1, null),
+                view(2L, TaskStatus.COMPLETED, 7L, DAY_1, DAY_2),
+                view(3L, TaskStatus.PENDING, 8L, DAY_1, null),
+                view(4L, TaskStatus.PENDING, null, DAY_1, null),
+                view(5L, TaskStatus.PENDING, 7L, DAY_1, null)));
+
+        List<UserTaskCounts> result = analyticsService.countPerUser();
+
+        assertEquals(2, result.size());
+        assertEquals(7L, result.get(0).userId());
+        assertEquals(3, result.get(0).total());
+        assertEquals(2L, result.get(0).byStatus().get(TaskStatus.PENDING));
+        assertEquals(1L, result.get(0).byStatus().get(TaskStatus.COMPLETED));
+        assertEquals(8L, result.get(1).userId());
+    }
+
+    @Test
+    void completionTimes_ShouldReportPercentilesAndBuckets() {
+        List<TaskAnalyticsView> views = new ArrayList<>();
+        for (int hours = 1; hours <= 100; hours++) {
+            views.add(view((long) hours, TaskStatus.COMPLETED, 1L, DAY_1, DAY_1.plusHours(hours)));
+        }
+        views.add(view(101L, TaskStatus.PENDING, 1L, DAY_1, null));
+        when(taskRepository.findAllAnalyticsViews()).thenReturn(views);
+
+        CompletionTimeDistribution result = analyticsService.completionTimes();
+
+        assertEquals(100, result.count());
+        assertEquals(50 * 3_600, result.p50Seconds());
+        assertEquals(90 * 3_600, result.p90Seconds());
+        assertEquals(100 * 3_600, result.maxSeconds());
+        assertEquals(0, result.buckets().get("<1h"));
+        assertEquals(23, result.buckets().get("1h-1d"));
+        assertEquals(77, result.buckets().get("1d-7d"));
+    }
+
+    @Test
+    void onTaskChanged_ShouldUpdateSnapshotWithoutQueryingAgain() {
+        when(taskRepository.findAllAnalyticsViews()).thenReturn(List.of(
+                view(1L, TaskStatus.PENDING, 1L, DAY_1, null),
+                view(2L, TaskStatus.PENDING, 1L, DAY_1, null),
+                view(3L, TaskStatus.PENDING, 1L, DAY_1, null)));
+        analyticsService.load();
+
+        analyticsService.onTaskChanged(TaskChangedEvent.updated(
+                snapshot(2L, TaskStatus.PENDING, null),
+                snapshot(2L, TaskStatus.COMPLETED, DAY_2)));
+        analyticsService.onTaskChanged(TaskChangedEvent.deleted(snapshot(1L, TaskStatus.PENDING, null)));
+        analyticsService.onTaskChanged(TaskChangedEvent.created(snapshot(4L, TaskStatus.IN_PROGRESS, null)));
+
+        Map<TaskStatus, Long> result = analyticsService.countByStatus();
+        assertEquals(1L, result.get(TaskStatus.PENDING));
+        assertEquals(1L, result.get(TaskStatus.COMPLETED));
+        assertEquals(1L, result.get(TaskStatus.IN_PROGRESS));
+        assertEquals(1, analyticsService.completionTimes().count());
+        verify(taskRepository, times(1)).findAllAnalyticsViews();
+    }
+
+    @Test
+    void onTaskChanged_ShouldReplaceOldRow_WhenTaskIdChanges() {
+        when(taskRepository.findAllAnalyticsViews()).thenReturn(List.of(
+                view(1L, TaskStatus.PENDING, 1L, DAY_1, null)));
+        analyticsService.load();
+
+        analyticsService.onTaskChanged(TaskChangedEvent.updated(
+                snapshot(1L, TaskStatus.PENDING, null),
+                snapshot(1025L, TaskStatus.PENDING, null)));
+
+        assertEquals(1L, analyticsService.countByStatus().get(TaskStatus.PENDING));
+    }
+
+    @Test
+    void countByStatus_ShouldRetryFailedLoad_WithoutBlockingChanges() throws Exception {
+        CountDownLatch retrying = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(taskRepository.findAllAnalyticsViews())
+                .thenThrow(new IllegalStateException("database unavailable"))
+                .thenAnswer(invocation -> {
+                    retrying.countDown();
+                    release.await();
+                    return List.of(view(1L, TaskStatus.PENDING, 1L, DAY_1, null));
+                });
+        assertThrows(IllegalStateException.class, () -> analyticsService.load());
+
+        CompletableFuture<Map<TaskStatus, Long>> counts = CompletableFuture.supplyAsync(analyticsService::countByStatus);
+        try {
+            assertTrue(retrying.await(5, TimeUnit.SECONDS));
+            assertTimeoutPreemptively(Duration.ofSeconds(5), () -> analyticsService.onTaskChanged(
+                    TaskChangedEvent.created(snapshot(2L, TaskStatus.IN_PROGRESS, null))));
+        } finally {
+            release.countDown();
+        }
+
+        Map<TaskStatus, Long> result = counts.get(5, TimeUnit.SECONDS);
+        assertEquals(1L, result.get(TaskStatus.PENDING));
+        assertEquals(1L, result.get(TaskStatus.IN_PROGRESS));
+    }
+
+    @Test
+    void countPerDay_ShouldThrowException_WhenRangeIsInvalid() {
+        LocalDate day = DAY_1.toLocalDate();
+
+        assertThrows(BadRequestException.class, () -> analyticsService.countPerDay(day, day.minusDays(1)));
+        assertThrows(BadRequestException.class, () -> analyticsService.countPerDay(day, day.plusYears(2)));
+    }
+
+    private static TaskSnapshot snapshot(Long id, TaskStatus status, LocalDateTime completedAt) {
+        return new TaskSnapshot(id, "task " + id, null, status, 1L, DAY_1, completedAt, null);
+    }
+
+    private static TaskAnalyticsView view(Long id, TaskStatus status, Long assigneeId,
+                                          LocalDateTime createdAt, LocalDateTime completedAt) {
+        return new TaskAnalyticsView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public TaskStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public Long getAssigneeId() {
+                return assigneeId;
+            }
+
+            @Override
+            public LocalDateTime getCreatedAt() {
+                return createdAt;
+            }
+
+            @Override
+            public LocalDateTime getCompletedAt() {
+                return completedAt;
+            }
+        };
+    }
+}
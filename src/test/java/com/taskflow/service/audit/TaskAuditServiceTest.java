@@ -0,0 +1,111 @@
+package com.taskflow.service.audit;
+
+import com.taskflow.audit.AuditLog;
+import com.taskflow.audit.AuditRecord;
+import com.taskflow.audit.FsyncPolicy;
+import com.taskflow.config.AuditProperties;
+import com.taskflow.event.TaskChangedEvent;
+import com.taskflow.event.TaskSnapshot;
+import com.taskflow.model.TaskStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskAuditServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+    private static final LocalDateTime CREATED = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void toRecord_ShouldOnlyListChangedFields() {
+        TaskSnapshot before = new TaskSnapshot(1L, "title", "desc", TaskStatus.PENDING, 7L, CREATED, null, null);
+        TaskSnapshot after = new TaskSnapshot(1L, "title", "desc", TaskStatus.COMPLETED, 8L, CREATED,
+                CREATED.plusHours(1), null);
+
+        AuditRecord record = TaskAuditService.toRecord(TaskChangedEvent.updated(before, after), "alice", NOW);
+
+        assertEquals(AuditRecord.ChangeType.UPDATED, record.type());
+        assertEquals("alice", record.actor());
+        assertEquals(List.of(
+                new AuditRecord.FieldChange("status", "PENDING", "COMPLETED"),
+                new AuditRecord.FieldChange("assigneeId", "7", "8")), record.changes());
+    }
+
+    @Test
+    void toRecord_ShouldListOldValuesOfADeletedTask() {
+        TaskSnapshot before = new TaskSnapshot(1L, "title", null, TaskStatus.PENDING, null, CREATED, null, null);
+
+        AuditRecord record = TaskAuditService.toRecord(TaskChangedEvent.deleted(before), "system", NOW);
+
+        assertEquals(AuditRecord.ChangeType.DELETED, record.type());
+        assertEquals(1L, record.taskId());
+        assertEquals(List.of(
+                new AuditRecord.FieldChange("title", "title", null),
+                new AuditRecord.FieldChange("status", "PENDING", null)), record.changes());
+    }
+
+    @Test
+    void toRecords_ShouldDeleteOldIdAndLinkNewId_WhenTaskMoves() {
+        TaskSnapshot before = new TaskSnapshot(1L, "title", null, TaskStatus.PENDING, 7L, CREATED, null, null);
+        TaskSnapshot after = new TaskSnapshot(1025L, "title", null, TaskStatus.PENDING, 8L, CREATED, null, null);
+
+        List<AuditRecord> records = TaskAuditService.toRecords(TaskChangedEvent.updated(before, after), "alice", NOW);
+
+        AuditRecord.FieldChange move = new AuditRecord.FieldChange("id", "1", "1025");
+        assertEquals(List.of(
+                new AuditRecord(1L, NOW, AuditRecord.ChangeType.DELETED, "alice", List.of(move)),
+                new AuditRecord(1025L, NOW, AuditRecord.ChangeType.UPDATED, "alice",
+                        List.of(move, new AuditRecord.FieldChange("assigneeId", "7", "8")))), records);
+    }
+
+    @Test
+    void historyAndCompaction_ShouldFollowATaskAcrossAMove() throws IOException {
+        TaskSnapshot created = new TaskSnapshot(1L, "title", null, TaskStatus.PENDING, 7L, CREATED, null, null);
+        TaskSnapshot moved = new TaskSnapshot(1025L, "title", null, TaskStatus.PENDING, 8L, CREATED, null, null);
+        AuditProperties properties = new AuditProperties(directory, null, FsyncPolicy.NEVER, null,
+                Duration.ofDays(30), null, "X-User-Id");
+        Instant later = NOW.plus(Duration.ofDays(31));
+
+        try (AuditLog auditLog = new AuditLog(directory, 1024, FsyncPolicy.NEVER)) {
+            TaskAuditService service = new TaskAuditService(auditLog, properties);
+            append(auditLog, TaskChangedEvent.created(created));
+            append(auditLog, TaskChangedEvent.updated(created, moved));
+            sealSegments(auditLog);
+
+            assertEquals(List.of(AuditRecord.ChangeType.CREATED, AuditRecord.ChangeType.UPDATED),
+                    service.history(1025L).stream().map(AuditRecord::type).toList());
+            assertEquals(AuditRecord.ChangeType.DELETED, service.history(1L).get(1).type());
+            assertEquals(0, service.compact(later));
+
+            append(auditLog, TaskChangedEvent.deleted(moved));
+            sealSegments(auditLog);
+
+            assertEquals(4, service.compact(later));
+            assertTrue(service.history(1L).isEmpty());
+            assertTrue(service.history(1025L).isEmpty());
+        }
+    }
+
+    private static void append(AuditLog auditLog, TaskChangedEvent event) {
+        TaskAuditService.toRecords(event, "system", NOW).forEach(auditLog::append);
+    }
+
+    // compaction only rewrites sealed segments
+    private static void sealSegments(AuditLog auditLog) {
+        for (int i = 0; i < 50; i++) {
+            auditLog.append(new AuditRecord(99L, NOW, AuditRecord.ChangeType.UPDATED, "system",
+                    List.of(new AuditRecord.FieldChange("title", "a", "b"))));
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.taskflow.service.due;
+
+import com.taskflow.config.DueDateProperties;
+import com.taskflow.event.TaskChangedEvent;
+import com.taskflow.event.TaskOverdueEvent;
+import com.taskflow.event.TaskSnapshot;
+import com.taskflow.model.TaskStatus;
+import com.taskflow.repository.TaskDueView;
+import com.taskflow.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DueDateSchedulerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 1, 9, 0);
+    private static final long NOW_MILLIS = NOW.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private DueDateScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new DueDateScheduler(taskRepository, eventPublisher,
+                new DueDateProperties(Duration.ofSeconds(1), 64, 4, Duration.ofDays(1), Duration.ofHours(1)));
+    }
+
+    @Test
+    void load_ShouldScheduleTasksDueWithinHorizon_AndFireThemWhenDue() {
+        when(taskRepository.findOpenTasksDueBetween(any(), eq(NOW.plusDays(1))))
+                .thenReturn(List.of(due(1L, NOW.plusMinutes(5)), due(2L, NOW.minusMinutes(5))));
+        when(taskRepository.markOverdue(anyLong(), any())).thenReturn(1);
+
+        scheduler.load(NOW_MILLIS);
+        scheduler.tick(NOW_MILLIS + 1_000);
+
+        verify(taskRepository).markOverdue(eq(2L), any());
+        verify(taskRepository, never()).markOverdue(eq(1L), any());
+
+        scheduler.tick(NOW_MILLIS + Duration.ofMinutes(5).toMillis());
+
+        ArgumentCaptor<TaskOverdueEvent> captor = ArgumentCaptor.forClass(TaskOverdueEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(captor.capture());
+        assertEquals(List.of(2L, 1L), captor.getAllValues().stream().map(TaskOverdueEvent::taskId).toList());
+        assertEquals(0, scheduler.scheduledCount());
+    }
+
+    @Test
+    void tick_ShouldNotPublish_WhenTaskWasNoLongerOpenInDatabase() {
+        when(taskRepository.findOpenTasksDueBetween(any(), any())).thenReturn(List.of(due(1L, NOW.plusSeconds(1))));
+        when(taskRepository.markOverdue(eq(1L), any())).thenReturn(0);
+
+        scheduler.load(NOW_MILLIS);
+        scheduler.tick(NOW_MILLIS + 2_000);
+
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void onTaskChanged_ShouldScheduleRescheduleAndCancel() {
+        when(taskRepository.findOpenTasksDueBetween(any(), any())).thenReturn(List.of());
+        scheduler.load(NOW_MILLIS);
+
+        scheduler.onTaskChanged(TaskChangedEvent.created(snapshot(1L, TaskStatus.PENDING, NOW.plusHours(1))));
+        scheduler.onTaskChanged(TaskChangedEvent.created(snapshot(2L, TaskStatus.PENDING, NOW.plusDays(3))));
+        assertTrue(scheduler.isScheduled(1L));
+        assertFalse(scheduler.isScheduled(2L), "beyond the horizon, left to the refill");
+
+        scheduler.onTaskChanged(TaskChangedEvent.updated(
+                snapshot(1L, TaskStatus.PENDING, NOW.plusHours(1)),
+                snapshot(1L, TaskStatus.COMPLETED, NOW.plusHours(1))));
+        assertFalse(scheduler.isScheduled(1L));
+
+        scheduler.onTaskChanged(TaskChangedEvent.created(snapshot(3L, TaskStatus.IN_PROGRESS, NOW.plusHours(2))));
+        scheduler.onTaskChanged(TaskChangedEvent.deleted(snapshot(3L, TaskStatus.IN_PROGRESS, NOW.plusHours(2))));
+        assertEquals(0, scheduler.scheduledCount());
+    }
+
+    @Test
+    void onTaskChanged_ShouldCancelOldId_WhenTaskIdChanges() {
+        when(taskRepository.findOpenTasksDueBetween(any(), any())).thenReturn(List.of());
+        scheduler.load(NOW_MILLIS);
+        scheduler.onTaskChanged(TaskChangedEvent.created(snapshot(1L, TaskStatus.PENDING, NOW.plusHours(1))));
+
+        scheduler.onTaskChanged(TaskChangedEvent.updated(
+                snapshot(1L, TaskStatus.PENDING, NOW.plusHours(1)),
+                snapshot(1025L, TaskStatus.PENDING, NOW.plusHours(1))));
+
+        assertFalse(scheduler.isScheduled(1L));
+        assertTrue(scheduler.isScheduled(1025L));
+        assertEquals(1, scheduler.scheduledCount());
+    }
+
+    @Test
+    void refill_ShouldLoadOnlyTheNewlyCoveredRange() {
+        when(taskRepository.findOpenTasksDueBetween(any(), any())).thenReturn(List.of());
+        scheduler.load(NOW_MILLIS);
+
+        when(taskRepository.findOpenTasksDueBetween(NOW.plusDays(1), NOW.plusDays(1).plusHours(1)))
+                .thenReturn(List.of(due(7L, NOW.plusDays(1).plusMinutes(30))));
+        scheduler.refill(NOW_MILLIS + Duration.ofHours(1).toMillis());
+
+        assertTrue(scheduler.isScheduled(7L));
+    }
+
+    private static TaskSnapshot snapshot(Long id, TaskStatus status, LocalDateTime dueAt) {
+        return new TaskSnapshot(id, "task " + id, null, status, null, NOW, null, dueAt);
+    }
+
+    private static TaskDueView due(Long id, LocalDateTime dueAt) {
+        return new TaskDueView() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public LocalDateTime getDueAt() {
+                return dueAt;
+            }
+        };
+    }
+}
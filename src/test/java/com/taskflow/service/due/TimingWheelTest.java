@@ -0,0 +1,71 @@
+package com.taskflow.service.due;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+
+    private static final long START = 1_000_000;
+
+    // 10 ms ticks, 8 slots, 3 levels: level windows of 80 ms, 640 ms and 5120 ms
+    private final TimingWheel wheel = new TimingWheel(10, 8, 3, START);
+
+    @Test
+    void advanceTo_ShouldFireEachTaskAtItsTick_AcrossCascades() {
+        long[] delays = {10, 75, 80, 81, 639, 640, 2_000, 4_470};
+        for (int i = 0; i < delays.length; i++) {
+            assertTrue(wheel.schedule(i, START + delays[i]));
+        }
+
+        Map<Long, Long> firedAt = new HashMap<>();
+        for (long now = START; now <= START + 5_000; now += 10) {
+            long time = now;
+            wheel.advanceTo(now, taskId -> firedAt.put(taskId, time));
+        }
+
+        for (int i = 0; i < delays.length; i++) {
+            assertEquals(START + delays[i] / 10 * 10, firedAt.get((long) i), "fire time of task " + i);
+        }
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void schedule_ShouldReplacePreviousDeadline_AndCancelShouldRemoveIt() {
+        wheel.schedule(1L, START + 50);
+        wheel.schedule(1L, START + 500);
+        wheel.schedule(2L, START + 50);
+        wheel.cancel(2L);
+
+        List<Long> fired = new ArrayList<>();
+        wheel.advanceTo(START + 100, fired::add);
+        assertTrue(fired.isEmpty());
+
+        wheel.advanceTo(START + 500, fired::add);
+        assertEquals(List.of(1L), fired);
+    }
+
+    @Test
+    void schedule_ShouldFirePastDeadlinesOnNextTick() {
+        wheel.schedule(1L, START - 1_000);
+
+        List<Long> fired = new ArrayList<>();
+        wheel.advanceTo(START + 10, fired::add);
+
+        assertEquals(List.of(1L), fired);
+    }
+
+    @Test
+    void schedule_ShouldRejectDeadlinesBeyondCapacity() {
+        assertEquals(7 * 640, wheel.capacityMillis());
+
+        assertTrue(wheel.schedule(1L, START + wheel.capacityMillis()));
+        assertFalse(wheel.schedule(2L, START + 10 * 5_120));
+        assertFalse(wheel.contains(2L));
+    }
+}
@@ -0,0 +1,96 @@
+package com.taskflow.service.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskImportReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void csv_ShouldMapColumnsByHeader_AndHandleQuotedFields() throws IOException {
+        List<ImportRow> rows = read(ImportFormat.CSV,
+                "status,title,assignee_email,description\n"
+                        + "PENDING,\"Task, with comma\",a@example.com,\"He said \"\"hi\"\"\"\r\n"
+                        + "\n"
+                        + "COMPLETED,\"Multi\nline\",,\n");
+
+        assertEquals(2, rows.size());
+        assertEquals(1, rows.get(0).rowNumber());
+        assertEquals("Task, with comma", rows.get(0).title());
+        assertEquals("He said \"hi\"", rows.get(0).description());
+        assertEquals("a@example.com", rows.get(0).assigneeEmail());
+        assertEquals("PENDING", rows.get(0).status());
+        assertEquals("Multi\nline", rows.get(1).title());
+        assertNull(rows.get(1).assigneeEmail());
+    }
+
+    @Test
+    void csv_ShouldReportUnterminatedQuote() throws IOException {
+        List<ImportRow> rows = read(ImportFormat.CSV, "title\n\"never closed\n");
+
+        assertEquals(1, rows.size());
+        assertNotNull(rows.get(0).error());
+    }
+
+    @Test
+    void csv_ShouldRejectOverlongField_AndResumeOnNextLine() throws IOException {
+        String unterminated = "\"never closed " + "x".repeat(CsvTaskImportReader.MAX_FIELD_LENGTH * 4);
+        List<ImportRow> rows = read(ImportFormat.CSV, "title\n" + unterminated + "\nSecond task\n");
+
+        assertEquals(2, rows.size());
+        assertTrue(rows.get(0).error().contains("longer than"));
+        assertEquals("Second task", rows.get(1).title());
+        assertEquals(2, rows.get(1).rowNumber());
+    }
+
+    @Test
+    void ndjson_ShouldRejectOverlongLine_AndResumeOnNextLine() throws IOException {
+        String huge = "{\"title\":\"" + "x".repeat(NdjsonTaskImportReader.MAX_LINE_LENGTH) + "\"}";
+        List<ImportRow> rows = read(ImportFormat.NDJSON, huge + "\n{\"title\":\"Second\"}\n");
+
+        assertEquals(2, rows.size());
+        assertNotNull(rows.get(0).error());
+        assertEquals("Second", rows.get(1).title());
+    }
+
+    @Test
+    void ndjson_ShouldReadOneObjectPerLine_AndReportMalformedLines() throws IOException {
+        List<ImportRow> rows = read(ImportFormat.NDJSON, """
+                {"title":"First","status":"IN_PROGRESS","assigneeEmail":"a@example.com"}
+                {not json}
+
+                {"title":"Third"}
+                """);
+
+        assertEquals(3, rows.size());
+        assertEquals("First", rows.get(0).title());
+        assertEquals("a@example.com", rows.get(0).assigneeEmail());
+        assertNotNull(rows.get(1).error());
+        assertEquals(3, rows.get(2).rowNumber());
+        assertNull(rows.get(2).status());
+    }
+
+    private List<ImportRow> read(ImportFormat format, String content) throws IOException {
+        Path file = tempDir.resolve("import");
+        Files.writeString(file, content);
+        List<ImportRow> rows = new ArrayList<>();
+        try (TaskImportReader reader = TaskImportReader.open(file, format, new ObjectMapper())) {
+            ImportRow row;
+            while ((row = reader.next()) != null) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+}
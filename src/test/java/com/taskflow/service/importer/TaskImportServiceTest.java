@@ -0,0 +1,230 @@
+package com.taskflow.service.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.config.TaskImportProperties;
+import com.taskflow.dto.ImportJobStatus;
+import com.taskflow.dto.ImportRowError;
+import com.taskflow.exception.BadRequestException;
+import com.taskflow.model.Task;
+import com.taskflow.model.TaskStatus;
+import com.taskflow.model.User;
+import com.taskflow.repository.TaskRepository;
+import com.taskflow.repository.UserRepository;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskImportServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @TempDir
+    Path tempDir;
+
+    private TaskImportService taskImportService;
+    private final List<Integer> chunkSizes = new ArrayList<>();
+    private final List<Task> saved = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        taskImportService = new TaskImportService(taskRepository, userRepository,
+                Validation.buildDefaultValidatorFactory().getValidator(), transactionManager, eventPublisher,
+                new ObjectMapper(), new TaskImportProperties(2, 1, 100, 10, tempDir, Duration.ofHours(24), DataSize.ofKilobytes(1)));
+
+        lenient().when(taskRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Task> chunk = invocation.getArgument(0);
+            chunkSizes.add(chunk.size());
+            saved.addAll(chunk);
+            return List.copyOf(chunk);
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskImportService.shutdown();
+    }
+
+    @Test
+    void run_ShouldImportValidRows_AndReportInvalidOnes() throws IOException {
+        User user = new User();
+        user.setId(1L);
+        user.setEmail("a@example.com");
+        when(userRepository.findByEmail("a@example.com")).thenReturn(Optional.of(user));
+        when(userRepository.findByEmail("ghost@example.com")).thenReturn(Optional.empty());
+
+        TaskImportJob job = job("""
+                title,status,assigneeEmail
+                First task,PENDING,a@example.com
+                ab,PENDING,
+                Second task,DONE,
+                Third task,IN_PROGRESS,ghost@example.com
+                Fourth task,COMPLETED,a@example.com
+                """, 0);
+
+        taskImportService.run(job);
+
+        ImportJobStatus status = job.toStatus();
+        assertEquals(ImportJobState.COMPLETED, status.state());
+        assertEquals(2, status.imported());
+        assertEquals(3, status.rejected());
+        assertEquals(5, status.committedRows());
+        assertEquals(List.of(2L, 3L, 4L), job.errors().stream().map(ImportRowError::row).toList());
+        assertEquals(List.of(1, 1), chunkSizes);
+        Task completed = saved.get(1);
+        assertEquals(TaskStatus.COMPLETED, completed.getStatus());
+        assertNull(completed.getCompletedAt());
+        verify(userRepository, times(1)).findByEmail("a@example.com");
+        assertFalse(Files.exists(job.file()));
+    }
+
+    @Test
+    void run_ShouldSkipRowsUpToStartRow() throws IOException {
+        TaskImportJob job = job("""
+                {"title":"Row one"}
+                {"title":"Row two"}
+                {"title":"Row three"}
+                """, 2);
+
+        taskImportService.run(job);
+
+        assertEquals(ImportJobState.COMPLETED, job.state());
+        assertEquals(1, job.toStatus().imported());
+        assertEquals(3, job.committedRows());
+        assertEquals(List.of(1), chunkSizes);
+    }
+
+    @Test
+    void run_ShouldFailAndKeepOffset_WhenDatabaseWriteFails() throws IOException {
+        when(taskRepository.saveAll(anyList()))
+                .thenAnswer(invocation -> List.copyOf(invocation.<List<Task>>getArgument(0)))
+                .thenThrow(new IllegalStateException("database down"));
+
+        TaskImportJob job = job("""
+                {"title":"Row one"}
+                {"title":"Row two"}
+                {"title":"Row three"}
+                """, 0);
+
+        taskImportService.run(job);
+
+        assertEquals(ImportJobState.FAILED, job.state());
+        assertEquals(2, job.committedRows());
+        assertTrue(Files.exists(job.file()));
+    }
+
+    @Test
+    void resume_ShouldNotCountRejectionsOfRolledBackRowsTwice() throws IOException {
+        when(taskRepository.saveAll(anyList()))
+                .thenAnswer(invocation -> List.copyOf(invocation.<List<Task>>getArgument(0)))
+                .thenThrow(new IllegalStateException("database down"))
+                .thenAnswer(invocation -> List.copyOf(invocation.<List<Task>>getArgument(0)));
+
+        TaskImportJob job = job("""
+                title,status
+                Row one,PENDING
+                Row two,PENDING
+                ab,PENDING
+                Row four,PENDING
+                """, 0);
+
+        taskImportService.run(job);
+        assertEquals(ImportJobState.FAILED, job.state());
+        assertEquals(1, job.toStatus().rejected());
+
+        job.requeueFrom(job.committedRows());
+        taskImportService.run(job);
+
+        assertEquals(ImportJobState.COMPLETED, job.state());
+        assertEquals(3, job.toStatus().imported());
+        assertEquals(1, job.toStatus().rejected());
+        assertEquals(List.of(3L), job.errors().stream().map(ImportRowError::row).toList());
+    }
+
+    @Test
+    void evictExpired_ShouldForgetOldFinishedJobs_AndDeleteTheirSpoolFiles() throws Exception {
+        when(taskRepository.saveAll(anyList())).thenThrow(new IllegalStateException("database down"));
+        ImportJobStatus submitted = taskImportService.submit(
+                new ByteArrayInputStream("{\"title\":\"Row one\"}\n".getBytes()), ImportFormat.NDJSON, 0);
+        while (!taskImportService.getJob(submitted.id()).state().equals(ImportJobState.FAILED)) {
+            Thread.sleep(10);
+        }
+        Path spool = tempDir.resolve(submitted.id() + ".ndjson");
+        assertTrue(Files.exists(spool));
+
+        taskImportService.evictExpired(Instant.now());
+        assertEquals(ImportJobState.FAILED, taskImportService.getJob(submitted.id()).state());
+
+        taskImportService.evictExpired(Instant.now().plus(Duration.ofHours(25)));
+        assertThrows(RuntimeException.class, () -> taskImportService.getJob(submitted.id()));
+        assertFalse(Files.exists(spool));
+    }
+
+    @Test
+    void submit_ShouldRefuseUploadOverMaxFileSize_AndLeaveNoSpoolFile() throws IOException {
+        byte[] content = ("title\n" + "Task row\n".repeat(200)).getBytes();
+
+        assertThrows(BadRequestException.class,
+                () -> taskImportService.submit(new ByteArrayInputStream(content), ImportFormat.CSV, 0));
+        try (var files = Files.list(tempDir)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void submit_ShouldSpoolMultipartUpload() throws Exception {
+        MockMultipartFile upload = new MockMultipartFile("file", "tasks.csv", "text/csv", "title\nFirst task\n".getBytes());
+
+        ImportJobStatus submitted = taskImportService.submit(upload, ImportFormat.CSV, 0);
+        while (!taskImportService.getJob(submitted.id()).state().equals(ImportJobState.COMPLETED)) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(1, taskImportService.getJob(submitted.id()).imported());
+    }
+
+    @Test
+    void getJob_ShouldThrowException_WhenJobNotExists() {
+        assertThrows(RuntimeException.class, () -> taskImportService.getJob("missing"));
+    }
+
+    private TaskImportJob job(String content, long startRow) throws IOException {
+        ImportFormat format = content.startsWith("{") ? ImportFormat.NDJSON : ImportFormat.CSV;
+        Path file = tempDir.resolve("job." + format.name().toLowerCase());
+        Files.writeString(file, content);
+        return new TaskImportJob("job", format, file, startRow, 100);
+    }
+}
@@ -0,0 +1,137 @@
+package com.taskflow.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import com.taskflow.config.WarmupProperties;
+import com.taskflow.dto.WarmupReport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.web.context.WebServerInitializedEvent;
+import org.springframework.boot.web.server.WebServer;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class WarmupRunnerTest {
+
+    private HttpServer server;
+    private final Set<String> requestedPaths = ConcurrentHashMap.newKeySet();
+
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final ApplicationAvailability availability = mock(ApplicationAvailability.class);
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            requestedPaths.add(path);
+            String body = switch (path) {
+                case "/api/analytics/users" -> "[{\"userId\":21,\"total\":2}]";
+                case "/api/tasks/user/21/inbox" -> "{\"tasks\":[{\"id\":11},{\"id\":12}],\"total\":2}";
+                default -> "{}";
+            };
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, bytes.length);
+            exchange.getResponseBody().write(bytes);
+            exchange.close();
+        });
+        server.start();
+        when(availability.getReadinessState()).thenReturn(ReadinessState.ACCEPTING_TRAFFIC);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void onReadinessChanged_ShouldRefuseTrafficUntilWarmupCompletes() throws Exception {
+        WarmupRunner runner = runner(true);
+        runner.onWebServerInitialized(webServerStarted(server.getAddress().getPort()));
+
+        runner.onReadinessChanged(new AvailabilityChangeEvent<>(this, ReadinessState.ACCEPTING_TRAFFIC));
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!runner.isComplete() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+
+        assertTrue(runner.isComplete());
+        WarmupReport report = runner.report();
+        assertEquals(WarmupReport.Outcome.STABLE, report.outcome());
+        assertTrue(report.requests() > 0);
+        assertNotNull(report.first());
+        assertNotNull(report.last());
+        assertTrue(requestedPaths.containsAll(List.of("/api/tasks/user/21/inbox", "/api/users/21")),
+                requestedPaths.toString());
+        assertFalse(requestedPaths.contains("/api/tasks"), "the full task list must not be requested");
+        assertFalse(requestedPaths.contains("/api/tasks/search"), "a title search scans every task");
+        assertTrue(requestedPaths.contains("/api/tasks/11") || requestedPaths.contains("/api/tasks/12"));
+
+        ArgumentCaptor<ApplicationEvent> events = ArgumentCaptor.forClass(ApplicationEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertEquals(List.of(ReadinessState.REFUSING_TRAFFIC, ReadinessState.ACCEPTING_TRAFFIC),
+                events.getAllValues().stream().map(event -> ((AvailabilityChangeEvent<?>) event).getState()).toList());
+    }
+
+    @Test
+    void onReadinessChanged_ShouldSkip_WhenDisabled() {
+        WarmupRunner runner = runner(false);
+        runner.onWebServerInitialized(webServerStarted(server.getAddress().getPort()));
+
+        runner.onReadinessChanged(new AvailabilityChangeEvent<>(this, ReadinessState.ACCEPTING_TRAFFIC));
+
+        assertTrue(runner.isComplete());
+        assertEquals(WarmupReport.Outcome.SKIPPED, runner.report().outcome());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void isStable_ShouldRequireConsecutiveWindowsWithinTolerance() {
+        List<WarmupReport.Window> windows = List.of(window(100), window(400), window(950), window(1000), window(1040));
+
+        assertTrue(WarmupRunner.isStable(windows, 3, 0.1));
+        assertFalse(WarmupRunner.isStable(windows, 4, 0.1));
+        assertFalse(WarmupRunner.isStable(List.of(window(0), window(0)), 2, 0.1));
+    }
+
+    @Test
+    void resolve_ShouldReplacePlaceholdersWithSampledIds() {
+        String path = WarmupRunner.resolve("/api/tasks/{taskId}?user={userId}", List.of(5L), List.of(), new Random(1));
+
+        assertEquals("/api/tasks/5?user=1", path);
+    }
+
+    private WarmupRunner runner(boolean enabled) {
+        WarmupProperties properties = new WarmupProperties(enabled, Duration.ofSeconds(5), Duration.ofMillis(100),
+                2, 1.0, 2, List.of());
+        return new WarmupRunner(properties, eventPublisher, availability, new ObjectMapper());
+    }
+
+    private static WebServerInitializedEvent webServerStarted(int port) {
+        WebServer webServer = mock(WebServer.class);
+        when(webServer.getPort()).thenReturn(port);
+        WebServerInitializedEvent event = mock(WebServerInitializedEvent.class);
+        when(event.getWebServer()).thenReturn(webServer);
+        return event;
+    }
+
+    private static WarmupReport.Window window(double requestsPerSecond) {
+        return new WarmupReport.Window(requestsPerSecond, 1, 2);
+    }
+}